@@ -0,0 +1,57 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes a .gz variant next to each static asset matching the given globs, at the highest
+ * compression level, with the source's modification time. Run by the build as a single-file
+ * source program so no gzip binary is needed:
+ * {@code java PrecompressAssets.java <dir> <glob>...}
+ */
+public class PrecompressAssets {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Usage: PrecompressAssets <dir> <glob>...");
+        }
+        Path root = Path.of(args[0]);
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        List<PathMatcher> matchers = Stream.of(args).skip(1)
+            .map(glob -> root.getFileSystem().getPathMatcher("glob:" + glob))
+            .toList();
+        int count = 0;
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                Path relative = root.relativize(file);
+                if (matchers.stream().anyMatch(matcher -> matcher.matches(relative))) {
+                    compress(file);
+                    count++;
+                }
+            }
+        }
+        System.out.println("Precompressed " + count + " asset(s) in " + root);
+    }
+
+    private static void compress(Path file) throws IOException {
+        Path target = file.resolveSibling(file.getFileName() + ".gz");
+        try (OutputStream out = new BestGzipOutputStream(Files.newOutputStream(target))) {
+            Files.copy(file, out);
+        }
+        Files.setLastModifiedTime(target, Files.getLastModifiedTime(file));
+    }
+
+    private static class BestGzipOutputStream extends GZIPOutputStream {
+        BestGzipOutputStream(OutputStream out) throws IOException {
+            super(out);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
+}
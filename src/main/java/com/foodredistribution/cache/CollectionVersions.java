@@ -0,0 +1,49 @@
+package com.foodredistribution.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process change counter per MongoDB collection, bumped after every completed write.
+ * Versions are prefixed with the start time of this process, so tags issued before a restart
+ * never match again.
+ *
+ * <p>Writes made by other processes are not observed: another instance of the app, a migration
+ * or a mongo shell change the data without moving these counters, and the ETags built from
+ * them then answer 304 for stale data until this process restarts. That is why conditional
+ * GET is off unless {@code api.conditional-get.enabled} is set, which is only safe when this
+ * process is the single writer to the database.
+ */
+@Component
+public class CollectionVersions {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public void bump(String collection) {
+        counter(collection).incrementAndGet();
+    }
+
+    public long current(String collection) {
+        return counter(collection).get();
+    }
+
+    /**
+     * Weak entity tag covering the given collections. Read it before querying: a write that
+     * lands in between then only costs one extra full response, never a stale 304.
+     */
+    public String etag(Iterable<String> collections) {
+        StringBuilder tag = new StringBuilder("W/\"").append(epoch);
+        for (String collection : collections) {
+            tag.append('-').append(Long.toString(current(collection), 36));
+        }
+        return tag.append('"').toString();
+    }
+
+    private AtomicLong counter(String collection) {
+        return versions.computeIfAbsent(collection, name -> new AtomicLong());
+    }
+}
@@ -0,0 +1,57 @@
+package com.foodredistribution.cache;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import org.bson.BsonValue;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Driver-level listener that bumps {@link CollectionVersions} once a write command finishes.
+ * Watching the wire catches every write path alike: repository saves, findAndModify and
+ * updateMany. Failed writes bump too, since they may have applied partially.
+ */
+public class CollectionWriteListener implements CommandListener {
+
+    private static final Set<String> WRITE_COMMANDS = Set.of(
+        "insert", "update", "delete", "findAndModify", "drop");
+
+    private final CollectionVersions collectionVersions;
+    private final Map<Integer, String> inFlight = new ConcurrentHashMap<>();
+
+    public CollectionWriteListener(CollectionVersions collectionVersions) {
+        this.collectionVersions = collectionVersions;
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        if (WRITE_COMMANDS.contains(event.getCommandName())) {
+            // The collection name is the value of the command's first key, e.g. { update: "food_donations" }
+            BsonValue collection = event.getCommand().get(event.getCommandName());
+            if (collection != null && collection.isString()) {
+                inFlight.put(event.getRequestId(), collection.asString().getValue());
+            }
+        }
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        finished(event.getRequestId());
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        finished(event.getRequestId());
+    }
+
+    private void finished(int requestId) {
+        String collection = inFlight.remove(requestId);
+        if (collection != null) {
+            collectionVersions.bump(collection);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.foodredistribution.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Small in-process read-through cache with a per-entry TTL and a size bound. Values must be
+ * immutable since every caller shares the same instance.
+ */
+public class TtlCache<K, V> {
+
+    private final long ttlMillis;
+    private final int maxSize;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public TtlCache(long ttlMillis, int maxSize) {
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the cached value for {@code key}, loading and caching it on a miss. A loader
+     * exception propagates and nothing is cached.
+     */
+    public V get(K key, Function<K, V> loader) {
+        long now = System.currentTimeMillis();
+        Entry<V> entry = entries.get(key);
+        if (entry != null && entry.expiresAt > now) {
+            hits.increment();
+            return entry.value;
+        }
+
+        misses.increment();
+        V value = loader.apply(key);
+        if (ttlMillis > 0 && value != null) {
+            if (entries.size() >= maxSize) {
+                evictExpired(now);
+                if (entries.size() >= maxSize) {
+                    entries.clear();
+                }
+            }
+            entries.put(key, new Entry<>(value, now + ttlMillis));
+        }
+        return value;
+    }
+
+    public void evict(K key) {
+        entries.remove(key);
+    }
+
+    public void evictAll() {
+        entries.clear();
+    }
+
+    public long getHits() { return hits.sum(); }
+    public long getMisses() { return misses.sum(); }
+    public int size() { return entries.size(); }
+
+    public Map<String, Object> getStats() {
+        long hitCount = getHits();
+        long missCount = getMisses();
+        long total = hitCount + missCount;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRate", total == 0 ? 0.0 : (double) hitCount / total);
+        stats.put("size", size());
+        stats.put("maxSize", maxSize);
+        return stats;
+    }
+
+    private void evictExpired(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
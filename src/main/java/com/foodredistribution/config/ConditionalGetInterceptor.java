@@ -0,0 +1,63 @@
+package com.foodredistribution.config;
+
+import com.foodredistribution.cache.CollectionVersions;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Conditional GET for handlers annotated with {@link VersionedBy}. The ETag comes from the
+ * collection write versions, so an unchanged poll is answered with 304 from a counter lookup
+ * without querying MongoDB or serializing anything.
+ *
+ * <p>Opt-in through {@code api.conditional-get.enabled}: the versions only count writes made
+ * by this process (see {@link CollectionVersions}), so enable it only for a single instance
+ * that is the sole writer to the database.
+ */
+@Component
+@ConditionalOnProperty(name = "api.conditional-get.enabled", havingValue = "true")
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    // Clients may keep the response but must revalidate it on every use
+    private static final String CACHE_CONTROL = "private, no-cache";
+
+    private final CollectionVersions collectionVersions;
+    private final MongoTemplate mongoTemplate;
+    private final Map<Method, List<String>> collectionsByHandler = new ConcurrentHashMap<>();
+
+    public ConditionalGetInterceptor(CollectionVersions collectionVersions, MongoTemplate mongoTemplate) {
+        this.collectionVersions = collectionVersions;
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        VersionedBy versionedBy = handlerMethod.getMethodAnnotation(VersionedBy.class);
+        if (versionedBy == null) {
+            return true;
+        }
+        List<String> collections = collectionsByHandler.computeIfAbsent(handlerMethod.getMethod(),
+            method -> Arrays.stream(versionedBy.value()).map(mongoTemplate::getCollectionName).toList());
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        // Sets the ETag header and, on a match, the 304 status
+        boolean notModified = new ServletWebRequest(request, response)
+            .checkNotModified(collectionVersions.etag(collections));
+        return !notModified;
+    }
+}
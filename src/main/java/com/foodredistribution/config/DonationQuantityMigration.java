@@ -0,0 +1,89 @@
+package com.foodredistribution.config;
+
+import com.foodredistribution.model.FoodDonation;
+import com.foodredistribution.service.QuantityNormalizer;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Backfills normalizedQuantity and normalizedUnit on donations written before those fields
+ * existed. Runs at startup in batches and only touches documents that still lack the field,
+ * so it is a no-op once done. Quantities that cannot be parsed get null, which marks them as
+ * processed; they are left out of the analytics totals.
+ */
+@Component
+public class DonationQuantityMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(DonationQuantityMigration.class);
+
+    private static final int BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+
+    public DonationQuantityMigration(MongoTemplate mongoTemplate,
+                                     @Value("${donation.quantity-migration.enabled:true}") boolean enabled) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void migrate() {
+        if (!enabled) {
+            return;
+        }
+        String collection = mongoTemplate.getCollectionName(FoodDonation.class);
+        long migrated = 0;
+        long unparseable = 0;
+
+        while (true) {
+            Query pending = new Query(notMigrated()).limit(BATCH_SIZE);
+            pending.fields().include("quantity", "quantityUnit");
+            List<Document> batch = mongoTemplate.find(pending, Document.class, collection);
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collection);
+            for (Document donation : batch) {
+                QuantityNormalizer.Normalized normalized = QuantityNormalizer.normalize(
+                        asString(donation.get("quantity")), asString(donation.get("quantityUnit")));
+                if (normalized == null) {
+                    unparseable++;
+                }
+                // Guarded on the field still missing, so a concurrent update always wins
+                bulk.updateOne(new Query(Criteria.where("_id").is(donation.get("_id")).andOperator(notMigrated())),
+                        new Update()
+                                .set("normalizedQuantity", normalized == null ? null : normalized.amount())
+                                .set("normalizedUnit", normalized == null ? null : normalized.unit()));
+            }
+            bulk.execute();
+            migrated += batch.size();
+        }
+
+        if (migrated > 0) {
+            log.info("Normalized quantities on {} donations ({} could not be parsed)", migrated, unparseable);
+        }
+    }
+
+    private static Criteria notMigrated() {
+        return Criteria.where("normalizedQuantity").exists(false);
+    }
+
+    // Older documents may hold the quantity as a number
+    private static String asString(Object value) {
+        return value == null ? null : value.toString();
+    }
+}
@@ -0,0 +1,132 @@
+package com.foodredistribution.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+import org.springframework.web.servlet.resource.VersionStrategy;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.util.List;
+
+/**
+ * Content-hash versioning for static assets ({@code dashboard.js} is published as
+ * {@code dashboard-<md5>.js}). Only a request that carries the current hash gets the long-lived
+ * Cache-Control; the same file requested without one keeps the handler's revalidating policy,
+ * so an unversioned reference can never pin an old copy in a browser.
+ */
+public class FingerprintResourceResolver extends VersionResourceResolver {
+
+    private final String fingerprintedCacheControl;
+
+    public FingerprintResourceResolver(CacheControl fingerprintedCacheControl) {
+        this.fingerprintedCacheControl = fingerprintedCacheControl.getHeaderValue();
+        addContentVersionStrategy("/**");
+    }
+
+    @Override
+    protected Resource resolveResourceInternal(HttpServletRequest request, String requestPath,
+            List<? extends Resource> locations, ResourceResolverChain chain) {
+        Resource resolved = super.resolveResourceInternal(request, requestPath, locations, chain);
+        if (resolved == null) {
+            return null;
+        }
+        // File names such as admin-dashboard.js look versioned too, so compare against the real hash
+        VersionStrategy strategy = getStrategyForPath(requestPath);
+        String requestedVersion = strategy != null ? strategy.extractVersion(requestPath) : null;
+        if (requestedVersion == null || !requestedVersion.equals(strategy.getResourceVersion(resolved))) {
+            return resolved;
+        }
+        return new FingerprintedResource(resolved, fingerprintedCacheControl);
+    }
+
+    private static final class FingerprintedResource extends AbstractResource implements HttpResource {
+
+        private final Resource original;
+        private final String cacheControl;
+
+        FingerprintedResource(Resource original, String cacheControl) {
+            this.original = original;
+            this.cacheControl = cacheControl;
+        }
+
+        @Override
+        public HttpHeaders getResponseHeaders() {
+            HttpHeaders headers = new HttpHeaders();
+            if (original instanceof HttpResource httpResource) {
+                headers.putAll(httpResource.getResponseHeaders());
+            }
+            // Applied after the handler's own Cache-Control, so this one wins
+            headers.setCacheControl(cacheControl);
+            return headers;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return original.getInputStream();
+        }
+
+        @Override
+        public boolean exists() {
+            return original.exists();
+        }
+
+        @Override
+        public boolean isReadable() {
+            return original.isReadable();
+        }
+
+        @Override
+        public boolean isFile() {
+            return original.isFile();
+        }
+
+        @Override
+        public URL getURL() throws IOException {
+            return original.getURL();
+        }
+
+        @Override
+        public URI getURI() throws IOException {
+            return original.getURI();
+        }
+
+        @Override
+        public File getFile() throws IOException {
+            return original.getFile();
+        }
+
+        @Override
+        public long contentLength() throws IOException {
+            return original.contentLength();
+        }
+
+        @Override
+        public long lastModified() throws IOException {
+            return original.lastModified();
+        }
+
+        @Override
+        public Resource createRelative(String relativePath) throws IOException {
+            return original.createRelative(relativePath);
+        }
+
+        @Override
+        public String getFilename() {
+            return original.getFilename();
+        }
+
+        @Override
+        public String getDescription() {
+            return original.getDescription();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.foodredistribution.config;
+
+import com.foodredistribution.geo.Geocoder;
+import com.foodredistribution.model.FoodDonation;
+import com.foodredistribution.model.Organization;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Geocodes donations and organizations stored without a location. Runs at startup in
+ * batches, walking the documents by id; addresses the geocoder cannot resolve stay without a
+ * location and are retried on the next start, so extending the places file fills them in.
+ */
+@Component
+public class GeocodingBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(GeocodingBackfill.class);
+
+    private static final int BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+    private final Geocoder geocoder;
+    private final boolean enabled;
+
+    public GeocodingBackfill(MongoTemplate mongoTemplate, Geocoder geocoder,
+                             @Value("${geocoding.backfill.enabled:true}") boolean enabled) {
+        this.mongoTemplate = mongoTemplate;
+        this.geocoder = geocoder;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void backfill() {
+        if (!enabled) {
+            return;
+        }
+        backfill(mongoTemplate.getCollectionName(FoodDonation.class), "pickupAddress");
+        backfill(mongoTemplate.getCollectionName(Organization.class), "address");
+    }
+
+    private void backfill(String collection, String addressField) {
+        long located = 0;
+        long unresolved = 0;
+        Object lastId = null;
+
+        while (true) {
+            Criteria pending = Criteria.where("location").exists(false).and(addressField).exists(true);
+            if (lastId != null) {
+                pending.and("_id").gt(lastId);
+            }
+            Query query = new Query(pending).with(Sort.by("_id")).limit(BATCH_SIZE);
+            query.fields().include(addressField);
+            List<Document> batch = mongoTemplate.find(query, Document.class, collection);
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collection);
+            int updates = 0;
+            for (Document document : batch) {
+                Object address = document.get(addressField);
+                GeoJsonPoint location = address == null ? null : geocoder.geocode(address.toString());
+                if (location == null) {
+                    unresolved++;
+                    continue;
+                }
+                // Guarded on the field still missing, so a location written meanwhile wins
+                bulk.updateOne(new Query(Criteria.where("_id").is(document.get("_id")).and("location").exists(false)),
+                        new Update().set("location", location));
+                updates++;
+            }
+            if (updates > 0) {
+                bulk.execute();
+                located += updates;
+            }
+            lastId = batch.get(batch.size() - 1).get("_id");
+        }
+
+        if (located > 0 || unresolved > 0) {
+            log.info("Geocoded {} document(s) in {} ({} address(es) could not be resolved)",
+                    located, collection, unresolved);
+        }
+    }
+}
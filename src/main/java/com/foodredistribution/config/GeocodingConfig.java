@@ -0,0 +1,30 @@
+package com.foodredistribution.config;
+
+import com.foodredistribution.geo.FileGeocoder;
+import com.foodredistribution.geo.Geocoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+/**
+ * Supplies the offline {@link FileGeocoder} unless the application declares its own
+ * {@link Geocoder} bean, e.g. one that calls an online geocoding service.
+ */
+@Configuration
+public class GeocodingConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(GeocodingConfig.class);
+
+    @Bean
+    @ConditionalOnMissingBean(Geocoder.class)
+    public Geocoder fileGeocoder(
+            @Value("${geocoding.places-file:classpath:geocoding/places.csv}") Resource placesFile) {
+        FileGeocoder geocoder = FileGeocoder.load(placesFile);
+        log.info("Loaded {} places for geocoding from {}", geocoder.size(), placesFile.getDescription());
+        return geocoder;
+    }
+}
@@ -0,0 +1,46 @@
+package com.foodredistribution.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.Resource;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.resource.ResourceTransformerChain;
+import org.springframework.web.servlet.resource.ResourceTransformerSupport;
+import org.springframework.web.servlet.resource.TransformedResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Rewrites the local script, stylesheet and image references in static HTML pages to their
+ * fingerprinted URLs, the way {@code CssLinkResourceTransformer} does for stylesheets.
+ * External (scheme or protocol-relative) and unresolvable links are left as they are.
+ */
+public class HtmlLinkResourceTransformer extends ResourceTransformerSupport {
+
+    private static final Pattern LINK = Pattern.compile(
+        "(<(?:script|link|img)\\b[^>]*?\\s(?:src|href)=\")([^\"#?:]+)(\")", Pattern.CASE_INSENSITIVE);
+
+    @Override
+    public Resource transform(HttpServletRequest request, Resource resource, ResourceTransformerChain transformerChain)
+            throws IOException {
+        resource = transformerChain.transform(request, resource);
+        if (!"html".equals(StringUtils.getFilenameExtension(resource.getFilename()))) {
+            return resource;
+        }
+
+        String content = StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8);
+        Matcher matcher = LINK.matcher(content);
+        StringBuilder rewritten = new StringBuilder(content.length());
+        while (matcher.find()) {
+            String link = matcher.group(2);
+            String resolved = link.startsWith("//") ? null : resolveUrlPath(link, request, resource, transformerChain);
+            String replacement = matcher.group(1) + (resolved != null ? resolved : link) + matcher.group(3);
+            matcher.appendReplacement(rewritten, Matcher.quoteReplacement(replacement));
+        }
+        matcher.appendTail(rewritten);
+        return new TransformedResource(resource, rewritten.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,116 @@
+package com.foodredistribution.config;
+
+import com.foodredistribution.cache.TtlCache;
+import com.foodredistribution.metrics.CacheStatsMeterBinder;
+import com.foodredistribution.scheduler.DonationExpiryTimer;
+import com.foodredistribution.security.CachingUserDetailsService;
+import com.foodredistribution.security.JwtUtil;
+import com.foodredistribution.security.LoginThrottle;
+import com.foodredistribution.security.PasswordVerificationService;
+import com.foodredistribution.security.PrincipalResolver;
+import com.foodredistribution.security.VerifiedTokenCache;
+import com.foodredistribution.service.DonationMatchingService;
+import com.foodredistribution.service.OrganizationService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the counters the security and cache components already keep (also shown on
+ * /api/admin/stats) as meters. HTTP, MongoDB command and pool, and JVM metrics come from
+ * Spring Boot's auto-configuration; see application.properties.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder verifiedTokenCacheMetrics(JwtUtil jwtUtil) {
+        return new CacheStatsMeterBinder<>(jwtUtil.getVerifiedTokenCache(), "verifiedTokens",
+                VerifiedTokenCache::getHits, VerifiedTokenCache::getMisses, VerifiedTokenCache::size);
+    }
+
+    @Bean
+    public MeterBinder principalCacheMetrics(CachingUserDetailsService userDetailsService) {
+        return new CacheStatsMeterBinder<>(userDetailsService, "principals",
+                CachingUserDetailsService::getHits, CachingUserDetailsService::getMisses,
+                CachingUserDetailsService::size);
+    }
+
+    @Bean
+    public MeterBinder organizationCacheMetrics(OrganizationService organizationService) {
+        return new CacheStatsMeterBinder<>(organizationService.getProfileCache(), "organizationProfiles",
+                TtlCache::getHits, TtlCache::getMisses, TtlCache::size);
+    }
+
+    @Bean
+    public MeterBinder authenticationMetrics(PasswordVerificationService passwordVerificationService,
+                                             LoginThrottle loginThrottle,
+                                             PrincipalResolver principalResolver) {
+        return registry -> {
+            FunctionTimer.builder("password.hashing", passwordVerificationService,
+                            PasswordVerificationService::getHashes,
+                            PasswordVerificationService::getTotalHashNanos, TimeUnit.NANOSECONDS)
+                    .description("BCrypt hashes and verifications")
+                    .register(registry);
+            Gauge.builder("password.hashing.active", passwordVerificationService,
+                            PasswordVerificationService::getActiveCount)
+                    .register(registry);
+            Gauge.builder("password.hashing.queued", passwordVerificationService,
+                            PasswordVerificationService::getQueueDepth)
+                    .register(registry);
+            FunctionCounter.builder("password.hashing.rejected", passwordVerificationService,
+                            PasswordVerificationService::getRejected)
+                    .description("Hashing requests turned away with a 429")
+                    .register(registry);
+            FunctionCounter.builder("login.throttled", loginThrottle, LoginThrottle::getThrottled)
+                    .register(registry);
+            FunctionCounter.builder("principals.resolved.from.claims", principalResolver,
+                            PrincipalResolver::getResolvedFromClaims)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder expiryTimerMetrics(DonationExpiryTimer expiryTimer) {
+        return registry -> {
+            Gauge.builder("donation.expiry.scheduled", expiryTimer, DonationExpiryTimer::getScheduled)
+                    .description("Donations queued to expire within the loaded window")
+                    .register(registry);
+            FunctionTimer.builder("donation.expiry.lag", expiryTimer,
+                            DonationExpiryTimer::getExpired,
+                            DonationExpiryTimer::getTotalLagMillis, TimeUnit.MILLISECONDS)
+                    .description("Delay between a donation's expiryDate and the timer expiring it")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder matchingMetrics(DonationMatchingService matchingService) {
+        return registry -> {
+            FunctionTimer.builder("matching.cycles", matchingService,
+                            DonationMatchingService::getCycles,
+                            DonationMatchingService::getTotalCycleNanos, TimeUnit.NANOSECONDS)
+                    .description("Matching engine cycles")
+                    .register(registry);
+            FunctionCounter.builder("matching.cycles.truncated", matchingService,
+                            DonationMatchingService::getTruncatedCycles)
+                    .description("Cycles that stopped at their donation or time budget")
+                    .register(registry);
+            FunctionCounter.builder("matching.donations.scanned", matchingService,
+                            DonationMatchingService::getDonationsScanned)
+                    .register(registry);
+            FunctionCounter.builder("matching.donations.unmatched", matchingService,
+                            DonationMatchingService::getDonationsUnmatched)
+                    .description("Donations scored without any receiver above the minimum score")
+                    .register(registry);
+            FunctionCounter.builder("matching.requests.created", matchingService,
+                            DonationMatchingService::getRequestsCreated)
+                    .register(registry);
+        };
+    }
+}
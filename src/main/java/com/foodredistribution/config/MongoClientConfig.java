@@ -0,0 +1,34 @@
+package com.foodredistribution.config;
+
+import com.foodredistribution.cache.CollectionVersions;
+import com.foodredistribution.cache.CollectionWriteListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class MongoClientConfig {
+
+    /**
+     * With virtual threads the request thread count no longer bounds concurrent queries, so the
+     * connection pool becomes the limit and is sized here.
+     */
+    @Bean
+    public MongoClientSettingsBuilderCustomizer connectionPoolSizing(
+            @Value("${mongo.pool.max-size:100}") int maxSize,
+            @Value("${mongo.pool.max-wait-ms:120000}") long maxWaitMillis) {
+        return settings -> settings.applyToConnectionPoolSettings(pool -> pool
+                .maxSize(maxSize)
+                .maxWaitTime(maxWaitMillis, TimeUnit.MILLISECONDS));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "api.conditional-get.enabled", havingValue = "true")
+    public MongoClientSettingsBuilderCustomizer collectionWriteTracking(CollectionVersions collectionVersions) {
+        return settings -> settings.addCommandListener(new CollectionWriteListener(collectionVersions));
+    }
+}
@@ -0,0 +1,115 @@
+package com.foodredistribution.config;
+
+import com.foodredistribution.model.Admin;
+import com.foodredistribution.model.DonationCounter;
+import com.foodredistribution.model.DonationRequest;
+import com.foodredistribution.model.FoodDonation;
+import com.foodredistribution.model.Organization;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Makes sure the indexes declared on the entities exist before the application serves
+ * traffic. Missing indexes are created; indexes whose definition differs from the
+ * declaration, and indexes nobody declared, are reported but left untouched.
+ */
+@Component
+public class MongoIndexVerifier {
+
+    private static final Logger log = LoggerFactory.getLogger(MongoIndexVerifier.class);
+
+    private static final List<Class<?>> MANAGED_ENTITIES = List.of(
+            FoodDonation.class, DonationRequest.class, Organization.class, Admin.class, DonationCounter.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    public MongoIndexVerifier(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void verifyIndexes() {
+        MongoMappingContext mappingContext = (MongoMappingContext) mongoTemplate.getConverter().getMappingContext();
+        MongoPersistentEntityIndexResolver resolver = new MongoPersistentEntityIndexResolver(mappingContext);
+
+        for (Class<?> entity : MANAGED_ENTITIES) {
+            String collection = mongoTemplate.getCollectionName(entity);
+            IndexOperations indexOps = mongoTemplate.indexOps(entity);
+
+            Map<String, Document> existing = new HashMap<>();
+            for (Document index : mongoTemplate.getCollection(collection).listIndexes()) {
+                existing.put(index.getString("name"), index);
+            }
+
+            for (IndexDefinition declared : resolver.resolveIndexFor(entity)) {
+                String name = declared.getIndexOptions().getString("name");
+                Document current = existing.remove(name);
+                if (current == null) {
+                    createIndex(indexOps, collection, name, declared);
+                } else if (!sameDefinition(declared, current)) {
+                    log.warn("Index drift on {}.{}: declared keys={} unique={}, found keys={} unique={}",
+                            collection, name, declared.getIndexKeys(), isUnique(declared.getIndexOptions()),
+                            current.get("key"), isUnique(current));
+                }
+            }
+
+            existing.remove("_id_");
+            existing.keySet().forEach(name ->
+                    log.warn("Index {}.{} is not declared on {}", collection, name, entity.getSimpleName()));
+        }
+    }
+
+    private void createIndex(IndexOperations indexOps, String collection, String name, IndexDefinition declared) {
+        try {
+            indexOps.ensureIndex(declared);
+            log.info("Created missing index {}.{} {}", collection, name, declared.getIndexKeys());
+        } catch (RuntimeException e) {
+            // e.g. a unique index over data that already holds duplicates
+            log.error("Could not create index {}.{}: {}", collection, name, e.getMessage());
+        }
+    }
+
+    private static boolean sameDefinition(IndexDefinition declared, Document current) {
+        Document declaredKeys = declared.getIndexKeys();
+        Document currentKeys = current.get("key", Document.class);
+        if (currentKeys == null || declaredKeys.size() != currentKeys.size()) {
+            return false;
+        }
+        List<String> declaredFields = List.copyOf(declaredKeys.keySet());
+        List<String> currentFields = List.copyOf(currentKeys.keySet());
+        for (int i = 0; i < declaredFields.size(); i++) {
+            String field = declaredFields.get(i);
+            if (!field.equals(currentFields.get(i))
+                    || !sameDirection(declaredKeys.get(field), currentKeys.get(field))) {
+                return false;
+            }
+        }
+        return isUnique(declared.getIndexOptions()) == isUnique(current);
+    }
+
+    private static boolean sameDirection(Object declared, Object current) {
+        // The server may hand back 1.0 for a key created as 1
+        if (declared instanceof Number d && current instanceof Number c) {
+            return d.intValue() == c.intValue();
+        }
+        return Objects.equals(declared, current);
+    }
+
+    private static boolean isUnique(Document options) {
+        return Boolean.TRUE.equals(options.get("unique"));
+    }
+}
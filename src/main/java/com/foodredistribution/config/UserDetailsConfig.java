@@ -2,6 +2,8 @@ package com.foodredistribution.config;
 
 import com.foodredistribution.model.Admin;
 import com.foodredistribution.repository.AdminRepository;
+import com.foodredistribution.security.CachingUserDetailsService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.core.userdetails.User;
@@ -12,8 +14,11 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 public class UserDetailsConfig {
 
     @Bean
-    public UserDetailsService userDetailsService(AdminRepository adminRepository) {
-        return username -> {
+    public CachingUserDetailsService userDetailsService(
+            AdminRepository adminRepository,
+            @Value("${security.principal-cache.ttl-ms:300000}") long ttlMillis,
+            @Value("${security.principal-cache.max-size:1000}") int maxSize) {
+        UserDetailsService database = username -> {
             Admin admin = adminRepository.findByUsername(username)
                     .orElseThrow(() -> new UsernameNotFoundException("Admin not found"));
             
@@ -22,5 +27,6 @@ public class UserDetailsConfig {
                     .roles("ADMIN")
                     .build();
         };
+        return new CachingUserDetailsService(database, ttlMillis, maxSize);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,21 @@
+package com.foodredistribution.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a GET handler whose response depends only on the stored documents of the given
+ * entity types. {@link ConditionalGetInterceptor} tags it with a weak ETag and answers a
+ * matching If-None-Match with 304 before the handler runs, when api.conditional-get.enabled
+ * is set; otherwise the annotation has no effect.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface VersionedBy {
+
+    Class<?>[] value();
+}
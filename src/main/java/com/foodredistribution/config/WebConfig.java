@@ -1,15 +1,32 @@
 package com.foodredistribution.config;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
 import org.springframework.web.servlet.config.annotation.ContentNegotiationConfigurer;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    // A fingerprinted URL never changes content, so browsers may keep it without revalidating
+    private static final CacheControl FINGERPRINTED_CACHE_CONTROL =
+            CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+
+    // Absent unless api.conditional-get.enabled is set
+    private final ObjectProvider<ConditionalGetInterceptor> conditionalGetInterceptor;
+
+    public WebConfig(ObjectProvider<ConditionalGetInterceptor> conditionalGetInterceptor) {
+        this.conditionalGetInterceptor = conditionalGetInterceptor;
+    }
+
     @Override
     public void configureContentNegotiation(ContentNegotiationConfigurer configurer) {
         configurer.defaultContentType(MediaType.APPLICATION_JSON);
@@ -17,30 +34,38 @@ public class WebConfig implements WebMvcConfigurer {
 
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        // Map static resources and explicitly set MIME types for JavaScript files
+        // Fingerprinted assets, served from build-time .br/.gz variants when the client accepts them
+        addAssetHandler(registry, "/js/**", "classpath:/static/js/");
+        addAssetHandler(registry, "/css/**", "classpath:/static/css/");
+        addAssetHandler(registry, "/images/**", "classpath:/static/images/");
+        
+        // Pages are revalidated on every load; their asset links are rewritten to fingerprinted URLs
         registry.addResourceHandler("/**")
                 .addResourceLocations("classpath:/static/")
-                .setCachePeriod(0);
-        
-        // Explicitly map JavaScript files and set correct MIME type
-        registry.addResourceHandler("/js/**")
-                .addResourceLocations("classpath:/static/js/")
-                .setCachePeriod(0);
-        
-        // Explicitly map CSS files
-        registry.addResourceHandler("/css/**")
-                .addResourceLocations("classpath:/static/css/")
-                .setCachePeriod(0);
-        
-        // Explicitly map image files
-        registry.addResourceHandler("/images/**")
-                .addResourceLocations("classpath:/static/images/")
-                .setCachePeriod(0);
+                .setCacheControl(CacheControl.noCache())
+                .resourceChain(true)
+                .addResolver(new FingerprintResourceResolver(FINGERPRINTED_CACHE_CONTROL))
+                .addTransformer(new HtmlLinkResourceTransformer());
         
         // Explicitly map favicon
         registry.addResourceHandler("/favicon.ico")
                 .addResourceLocations("classpath:/static/favicon.ico")
-                .setCachePeriod(0);
+                .setCacheControl(CacheControl.noCache());
+    }
+    
+    private void addAssetHandler(ResourceHandlerRegistry registry, String pathPattern, String location) {
+        registry.addResourceHandler(pathPattern)
+                .addResourceLocations(location)
+                .setCacheControl(CacheControl.noCache())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new FingerprintResourceResolver(FINGERPRINTED_CACHE_CONTROL));
+    }
+    
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        conditionalGetInterceptor.ifAvailable(interceptor ->
+                registry.addInterceptor(interceptor).addPathPatterns("/api/**"));
     }
     
     @Override
@@ -1,19 +1,45 @@
 package com.foodredistribution.controller;
 
+import com.foodredistribution.config.VersionedBy;
+import com.foodredistribution.dto.CursorPage;
+import com.foodredistribution.dto.DonationFieldSet;
+import com.foodredistribution.event.AdminEventBroadcaster;
+import com.foodredistribution.exception.InvalidStatusTransitionException;
+import com.foodredistribution.exception.TooManyRequestsException;
 import com.foodredistribution.model.Admin;
+import com.foodredistribution.model.DonationCounter;
 import com.foodredistribution.model.FoodDonation;
 import com.foodredistribution.model.Organization;
 import com.foodredistribution.repository.AdminRepository;
 import com.foodredistribution.repository.OrganizationRepository;
 import com.foodredistribution.service.AdminService;
+import com.foodredistribution.service.DonationCounterService;
+import com.foodredistribution.service.DonationExportService;
+import com.foodredistribution.service.DonationMatchingService;
 import com.foodredistribution.service.DonationService;
+import com.foodredistribution.service.OrganizationService;
+import com.foodredistribution.security.CachingUserDetailsService;
 import com.foodredistribution.security.JwtUtil;
+import com.foodredistribution.security.LoginThrottle;
+import com.foodredistribution.security.PasswordVerificationService;
+import com.foodredistribution.security.PrincipalResolver;
+import com.foodredistribution.security.VerifiedTokenCache;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -23,37 +49,66 @@ import java.util.Optional;
 @CrossOrigin(origins = "*")
 public class AdminController {
 
+    private static final Logger log = LoggerFactory.getLogger(AdminController.class);
+
     private final AdminService adminService;
     private final DonationService donationService;
+    private final OrganizationService organizationService;
+    private final DonationExportService donationExportService;
+    private final DonationCounterService donationCounterService;
+    private final DonationMatchingService donationMatchingService;
+    private final AdminEventBroadcaster adminEventBroadcaster;
     private final AdminRepository adminRepository;
     private final OrganizationRepository organizationRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordVerificationService passwordVerificationService;
+    private final LoginThrottle loginThrottle;
     private final JwtUtil jwtUtil;
+    private final CachingUserDetailsService userDetailsService;
+    private final PrincipalResolver principalResolver;
 
     @Autowired
     public AdminController(
             AdminService adminService,
             DonationService donationService,
+            OrganizationService organizationService,
+            DonationExportService donationExportService,
+            DonationCounterService donationCounterService,
+            DonationMatchingService donationMatchingService,
+            AdminEventBroadcaster adminEventBroadcaster,
             AdminRepository adminRepository,
             OrganizationRepository organizationRepository,
-            PasswordEncoder passwordEncoder,
-            JwtUtil jwtUtil) {
+            PasswordVerificationService passwordVerificationService,
+            LoginThrottle loginThrottle,
+            JwtUtil jwtUtil,
+            CachingUserDetailsService userDetailsService,
+            PrincipalResolver principalResolver) {
         this.adminService = adminService;
         this.donationService = donationService;
+        this.organizationService = organizationService;
+        this.donationExportService = donationExportService;
+        this.donationCounterService = donationCounterService;
+        this.donationMatchingService = donationMatchingService;
+        this.adminEventBroadcaster = adminEventBroadcaster;
         this.adminRepository = adminRepository;
         this.organizationRepository = organizationRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordVerificationService = passwordVerificationService;
+        this.loginThrottle = loginThrottle;
         this.jwtUtil = jwtUtil;
+        this.userDetailsService = userDetailsService;
+        this.principalResolver = principalResolver;
     }
 
     /**
      * Login endpoint - defensive:
      *  - validates input
      *  - catches repository/DB errors and logs them
-     *  - returns 401 for invalid credentials, 400 for bad request, 500 for server errors
+     *  - throttles per client address and per account before hashing
+     *  - returns 401 for invalid credentials, 400 for bad request, 429 when throttled or busy,
+     *    500 for server errors
      */
     @PostMapping("/login")
-    public ResponseEntity<Map<String, String>> login(@RequestBody Map<String, String> credentials) {
+    public ResponseEntity<Map<String, String>> login(@RequestBody Map<String, String> credentials,
+                                                     HttpServletRequest request) {
         // Validate request body
         if (credentials == null || credentials.get("username") == null || credentials.get("password") == null) {
             return ResponseEntity.badRequest().body(Map.of("error", "username and password are required"));
@@ -63,32 +118,37 @@ public class AdminController {
         String password = credentials.get("password");
 
         try {
+            loginThrottle.checkAttempt(request.getRemoteAddr(), username);
+
             Optional<Admin> adminOpt = adminRepository.findByUsername(username);
             if (adminOpt.isEmpty()) {
                 // Do not reveal whether username exists; return 401 for credentials problem
+                loginThrottle.recordFailure(username);
                 return ResponseEntity.status(401).body(Map.of("error", "Invalid credentials"));
             }
 
             Admin admin = adminOpt.get();
             // If password is null/missing in DB -> server misconfiguration
             if (admin.getPassword() == null) {
-                // Log a helpful message for debugging
-                System.err.println("Admin record missing password for user: " + username);
+                log.error("Admin record missing password for user {}", username);
                 return ResponseEntity.status(500).body(Map.of("error", "Server misconfiguration"));
             }
 
             boolean matches = false;
             try {
-                matches = passwordEncoder.matches(password, admin.getPassword());
+                matches = passwordVerificationService.matches(password, admin.getPassword());
+            } catch (TooManyRequestsException e) {
+                throw e;
             } catch (Exception e) {
-                // bcrypt / encoder problems should be logged
-                System.err.println("Password matching error for user " + username + ": " + e.getMessage());
+                log.error("Password matching failed for user {}", username, e);
                 return ResponseEntity.status(500).body(Map.of("error", "Server error comparing passwords"));
             }
 
             if (!matches) {
+                loginThrottle.recordFailure(username);
                 return ResponseEntity.status(401).body(Map.of("error", "Invalid credentials"));
             }
+            loginThrottle.recordSuccess(username);
 
             // Success: generate token and return
             String token = jwtUtil.generateToken(admin.getUsername(), "ADMIN");
@@ -96,30 +156,127 @@ public class AdminController {
             response.put("token", token);
             return ResponseEntity.ok(response);
 
+        } catch (TooManyRequestsException ex) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                    .body(Map.of("error", ex.getMessage()));
         } catch (Exception ex) {
-            // Log full stacktrace to server console for debugging
-            System.err.println("Error during login for user: " + username);
-            ex.printStackTrace();
+            log.error("Login failed for user {}", username, ex);
             return ResponseEntity.status(500).body(Map.of("error", "Internal server error", "details", ex.getMessage()));
         }
     }
 
     @GetMapping("/organizations")
-    public ResponseEntity<List<Organization>> getAllOrganizations() {
-        List<Organization> organizations = adminService.getAllOrganizations();
-        return ResponseEntity.ok(organizations);
+    @VersionedBy(Organization.class)
+    public ResponseEntity<?> getAllOrganizations(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            CursorPage<Organization> organizations = adminService.getOrganizationPage(cursor, limit);
+            return ResponseEntity.ok(organizations);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     @GetMapping("/donations")
-    public ResponseEntity<List<FoodDonation>> getAllDonations() {
-        List<FoodDonation> donations = adminService.getAllDonations();
-        return ResponseEntity.ok(donations);
+    @VersionedBy(FoodDonation.class)
+    public ResponseEntity<?> getAllDonations(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields) {
+        try {
+            DonationFieldSet fieldSet = DonationFieldSet.parse(view, fields, DonationFieldSet.FULL);
+            CursorPage<?> donations = adminService.getDonationPage(cursor, limit, fieldSet);
+            return ResponseEntity.ok(donations);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * Streams the donation history as NDJSON (default) or CSV straight from a Mongo cursor.
+     * Optional filters: status, organizationId and a createdDate range [from, to).
+     */
+    @GetMapping("/donations/export")
+    @VersionedBy(FoodDonation.class)
+    public ResponseEntity<StreamingResponseBody> exportDonations(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String organizationId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date to) {
+        if ("csv".equalsIgnoreCase(format)) {
+            return ResponseEntity.ok()
+                    .contentType(new MediaType("text", "csv"))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"donations.csv\"")
+                    .body(out -> donationExportService.writeCsv(status, organizationId, from, to, out));
+        }
+        if (!"ndjson".equalsIgnoreCase(format)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"donations.ndjson\"")
+                .body(out -> donationExportService.writeNdjson(status, organizationId, from, to, out));
+    }
+
+    /**
+     * Dashboard totals by status and food type plus the top organizations, read from the
+     * maintained counters rather than by loading every donation.
+     */
+    @GetMapping("/overview")
+    @VersionedBy({DonationCounter.class, Organization.class})
+    public ResponseEntity<Map<String, Object>> getOverview() {
+        return ResponseEntity.ok(donationCounterService.getOverview());
+    }
+
+    /**
+     * Runtime statistics of the in-process caches and pools.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        VerifiedTokenCache tokenCache = jwtUtil.getVerifiedTokenCache();
+        stats.put("jwtCache", Map.of(
+                "hits", tokenCache.getHits(),
+                "misses", tokenCache.getMisses(),
+                "size", tokenCache.size(),
+                "maxSize", tokenCache.getMaxSize()));
+        stats.put("principals", Map.of(
+                "cacheHits", userDetailsService.getHits(),
+                "databaseLookups", userDetailsService.getMisses(),
+                "resolvedFromClaims", principalResolver.getResolvedFromClaims(),
+                "cacheSize", userDetailsService.size()));
+        Map<String, Object> hashing = new LinkedHashMap<>(passwordVerificationService.getStats());
+        hashing.put("throttledLogins", loginThrottle.getThrottled());
+        stats.put("passwordHashing", hashing);
+        stats.put("organizationCache", organizationService.getCacheStats());
+        stats.put("matching", donationMatchingService.getStats());
+        return ResponseEntity.ok(stats);
+    }
+
+    /**
+     * Server-Sent Events feed of donation and organization changes for the admin dashboard.
+     * Reconnecting clients resume from the Last-Event-ID header.
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return adminEventBroadcaster.subscribe(lastEventId);
     }
 
     @GetMapping("/requests/pending")
-    public ResponseEntity<List<FoodDonation>> getPendingRequests() {
-        List<FoodDonation> pendingRequests = adminService.getPendingRequests();
-        return ResponseEntity.ok(pendingRequests);
+    @VersionedBy(FoodDonation.class)
+    public ResponseEntity<?> getPendingRequests(
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields) {
+        try {
+            DonationFieldSet fieldSet = DonationFieldSet.parse(view, fields, DonationFieldSet.FULL);
+            return ResponseEntity.ok(adminService.getPendingRequests(fieldSet));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     @PutMapping("/requests/{donationId}/approve")
@@ -132,6 +289,8 @@ public class AdminController {
             String notes = body != null ? body.get("notes") : "";
             FoodDonation approvedDonation = adminService.approveDonation(donationId, adminId, notes);
             return ResponseEntity.ok(approvedDonation);
+        } catch (InvalidStatusTransitionException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
@@ -147,6 +306,8 @@ public class AdminController {
             String notes = body != null ? body.get("notes") : "";
             FoodDonation rejectedDonation = adminService.rejectDonation(donationId, adminId, notes);
             return ResponseEntity.ok(rejectedDonation);
+        } catch (InvalidStatusTransitionException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
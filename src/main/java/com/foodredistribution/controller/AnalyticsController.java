@@ -0,0 +1,42 @@
+package com.foodredistribution.controller;
+
+import com.foodredistribution.config.VersionedBy;
+import com.foodredistribution.model.FoodDonation;
+import com.foodredistribution.service.DonationAnalyticsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/analytics")
+@CrossOrigin(origins = "*")
+public class AnalyticsController {
+
+    @Autowired
+    private DonationAnalyticsService analyticsService;
+
+    /**
+     * Donation counts and quantity totals grouped by foodType, organization, status, day, week
+     * or month, optionally filtered by status, organization and a createdDate range.
+     */
+    @GetMapping("/donations")
+    @VersionedBy(FoodDonation.class)
+    public ResponseEntity<List<Map<String, Object>>> getDonationTotals(
+            @RequestParam(defaultValue = "foodType") String groupBy,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String organizationId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date to) {
+        return ResponseEntity.ok(analyticsService.getTotals(groupBy, status, organizationId, from, to));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleBadRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
@@ -1,8 +1,14 @@
 package com.foodredistribution.controller;
 
+import com.foodredistribution.config.VersionedBy;
+import com.foodredistribution.dto.CursorPage;
+import com.foodredistribution.dto.DonationFieldSet;
+import com.foodredistribution.exception.InvalidStatusTransitionException;
 import com.foodredistribution.model.FoodDonation;
+import com.foodredistribution.model.Organization;
 import com.foodredistribution.service.DonationService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -23,24 +29,45 @@ public class DonationController {
     }
     
     @GetMapping
-    public ResponseEntity<List<FoodDonation>> getAllDonations() {
-        return ResponseEntity.ok(donationService.getAllDonations());
+    @VersionedBy(FoodDonation.class)
+    public ResponseEntity<?> getAllDonations(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields) {
+        try {
+            DonationFieldSet fieldSet = DonationFieldSet.parse(view, fields, DonationFieldSet.FULL);
+            CursorPage<?> page = donationService.getDonationPage(cursor, limit, fieldSet);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
     
     @GetMapping("/{id}")
+    @VersionedBy(FoodDonation.class)
     public ResponseEntity<FoodDonation> getDonationById(@PathVariable String id) {
         return ResponseEntity.ok(donationService.getDonationById(id));
     }
     
     @GetMapping("/organization/{organizationId}")
-    public ResponseEntity<List<FoodDonation>> getDonationsByOrganization(@PathVariable String organizationId) {
-        List<FoodDonation> donations = donationService.getDonationsByOrganization(organizationId);
+    @VersionedBy(FoodDonation.class)
+    public ResponseEntity<List<?>> getDonationsByOrganization(
+            @PathVariable String organizationId,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields) {
+        DonationFieldSet fieldSet = DonationFieldSet.parse(view, fields, DonationFieldSet.FULL);
+        List<?> donations = donationService.getDonationsByOrganization(organizationId, fieldSet);
         return ResponseEntity.ok(donations);
     }
     
     @GetMapping("/available")
-    public ResponseEntity<List<FoodDonation>> getAvailableDonations() {
-        List<FoodDonation> donations = donationService.getDonationsByStatus("AVAILABLE");
+    @VersionedBy(FoodDonation.class)
+    public ResponseEntity<List<?>> getAvailableDonations(
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields) {
+        DonationFieldSet fieldSet = DonationFieldSet.parse(view, fields, DonationFieldSet.FULL);
+        List<?> donations = donationService.getDonationsByStatus("AVAILABLE", fieldSet);
         return ResponseEntity.ok(donations);
     }
     
@@ -54,6 +81,8 @@ public class DonationController {
             
             FoodDonation updatedDonation = donationService.updateDonationStatus(id, newStatus);
             return ResponseEntity.ok(updatedDonation);
+        } catch (InvalidStatusTransitionException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
@@ -74,6 +103,8 @@ public class DonationController {
         try {
             FoodDonation cancelledDonation = donationService.cancelDonation(id);
             return ResponseEntity.ok(cancelledDonation);
+        } catch (InvalidStatusTransitionException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
@@ -89,30 +120,73 @@ public class DonationController {
         }
     }
     
+    // No ETag on the expiry views: their result moves with the clock, not only with writes
     @GetMapping("/expiring")
-    public ResponseEntity<List<FoodDonation>> getExpiringDonations(@RequestParam(defaultValue = "3") int days) {
-        List<FoodDonation> expiringDonations = donationService.getExpiringDonations(days);
+    public ResponseEntity<List<?>> getExpiringDonations(
+            @RequestParam(defaultValue = "3") int days,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields) {
+        DonationFieldSet fieldSet = DonationFieldSet.parse(view, fields, DonationFieldSet.FULL);
+        List<?> expiringDonations = donationService.getExpiringDonations(days, fieldSet);
         return ResponseEntity.ok(expiringDonations);
     }
     
     @GetMapping("/expired")
-    public ResponseEntity<List<FoodDonation>> getExpiredDonations() {
-        List<FoodDonation> expiredDonations = donationService.getExpiredDonations();
+    public ResponseEntity<List<?>> getExpiredDonations(
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields) {
+        DonationFieldSet fieldSet = DonationFieldSet.parse(view, fields, DonationFieldSet.FULL);
+        List<?> expiredDonations = donationService.getExpiredDonations(fieldSet);
         return ResponseEntity.ok(expiredDonations);
     }
     
+    // Browse cards default to the summary view
     @GetMapping("/available/{organizationId}")
-    public ResponseEntity<List<FoodDonation>> getAvailableDonationsFromOthers(@PathVariable String organizationId) {
-        List<FoodDonation> availableDonations = donationService.getAvailableDonationsFromOthers(organizationId);
+    @VersionedBy(FoodDonation.class)
+    public ResponseEntity<List<?>> getAvailableDonationsFromOthers(
+            @PathVariable String organizationId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields) {
+        DonationFieldSet fieldSet = DonationFieldSet.parse(view, fields, DonationFieldSet.SUMMARY);
+        List<?> availableDonations = donationService.getAvailableDonationsFromOthers(organizationId, limit, fieldSet);
         return ResponseEntity.ok(availableDonations);
     }
     
+    // Proximity browse, nearest first; radiusKm defaults to 10
+    @GetMapping("/nearby/{organizationId}")
+    @VersionedBy({FoodDonation.class, Organization.class})
+    public ResponseEntity<?> getNearbyDonations(
+            @PathVariable String organizationId,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields) {
+        try {
+            DonationFieldSet fieldSet = DonationFieldSet.parse(view, fields, DonationFieldSet.SUMMARY);
+            return ResponseEntity.ok(donationService.getNearbyAvailableDonations(organizationId, radiusKm, limit, fieldSet));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+    
     @PostMapping("/{donationId}/request")
-    public ResponseEntity<FoodDonation> requestDonation(
+    public ResponseEntity<?> requestDonation(
             @PathVariable String donationId,
             @RequestBody Map<String, String> request) {
-        String requestingOrgId = request.get("organizationId");
-        FoodDonation donation = donationService.requestDonation(donationId, requestingOrgId);
-        return ResponseEntity.ok(donation);
+        try {
+            String requestingOrgId = request.get("organizationId");
+            FoodDonation donation = donationService.requestDonation(donationId, requestingOrgId);
+            return ResponseEntity.ok(donation);
+        } catch (InvalidStatusTransitionException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+    
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleBadRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
     }
 }
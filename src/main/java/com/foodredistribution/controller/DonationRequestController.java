@@ -1,10 +1,17 @@
 package com.foodredistribution.controller;
 
+import com.foodredistribution.config.VersionedBy;
+import com.foodredistribution.event.DonationRequestNotifier;
+import com.foodredistribution.exception.InvalidStatusTransitionException;
+import com.foodredistribution.exception.RequestNotFoundException;
 import com.foodredistribution.model.DonationRequest;
 import com.foodredistribution.service.DonationRequestService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -15,40 +22,91 @@ public class DonationRequestController {
     @Autowired
     private DonationRequestService donationRequestService;
 
+    @Autowired
+    private DonationRequestNotifier donationRequestNotifier;
+
     @PostMapping("/create")
     public ResponseEntity<DonationRequest> createRequest(@RequestBody DonationRequest request) {
         return ResponseEntity.ok(donationRequestService.createRequest(request));
     }
 
     @GetMapping("/status/{userId}")
+    @VersionedBy(DonationRequest.class)
     public ResponseEntity<List<DonationRequest>> getUserRequests(@PathVariable String userId) {
         return ResponseEntity.ok(donationRequestService.getRequestsByUser(userId));
     }
 
+    /**
+     * Server-Sent Events channel that pushes approve/reject decisions to the organization,
+     * starting with any it has not been shown yet.
+     */
+    @GetMapping(value = "/notifications/{organizationId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamNotifications(@PathVariable String organizationId) {
+        return donationRequestNotifier.subscribe(organizationId);
+    }
+
     @PostMapping("/{requestId}/mark-notified")
     public ResponseEntity<Void> markNotificationAsShown(@PathVariable String requestId) {
         donationRequestService.markNotificationAsShown(requestId);
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * Accepts a proposal from the matching engine, turning it into a PENDING request.
+     */
+    @PostMapping("/{requestId}/accept")
+    public ResponseEntity<?> acceptProposal(@PathVariable String requestId) {
+        try {
+            return ResponseEntity.ok(donationRequestService.acceptProposal(requestId));
+        } catch (RequestNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (InvalidStatusTransitionException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+    }
+
+    @PostMapping("/{requestId}/decline")
+    public ResponseEntity<?> declineProposal(@PathVariable String requestId) {
+        try {
+            return ResponseEntity.ok(donationRequestService.declineProposal(requestId));
+        } catch (RequestNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (InvalidStatusTransitionException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+    }
+
     @GetMapping("/admin/pending")
+    @VersionedBy(DonationRequest.class)
     public ResponseEntity<List<DonationRequest>> getPendingRequests() {
         return ResponseEntity.ok(donationRequestService.getPendingRequests());
     }
 
     @PostMapping("/admin/{requestId}/approve")
-    public ResponseEntity<DonationRequest> approveRequest(
+    public ResponseEntity<?> approveRequest(
             @PathVariable String requestId,
             @RequestParam String adminId,
             @RequestParam(required = false) String notes) {
-        return ResponseEntity.ok(donationRequestService.approveRequest(requestId, adminId, notes));
+        try {
+            return ResponseEntity.ok(donationRequestService.approveRequest(requestId, adminId, notes));
+        } catch (RequestNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (InvalidStatusTransitionException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
     }
 
     @PostMapping("/admin/{requestId}/reject")
-    public ResponseEntity<DonationRequest> rejectRequest(
+    public ResponseEntity<?> rejectRequest(
             @PathVariable String requestId,
             @RequestParam String adminId,
             @RequestParam(required = false) String notes) {
-        return ResponseEntity.ok(donationRequestService.rejectRequest(requestId, adminId, notes));
+        try {
+            return ResponseEntity.ok(donationRequestService.rejectRequest(requestId, adminId, notes));
+        } catch (RequestNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (InvalidStatusTransitionException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
     }
 } 
\ No newline at end of file
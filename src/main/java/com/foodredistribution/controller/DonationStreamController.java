@@ -0,0 +1,54 @@
+package com.foodredistribution.controller;
+
+import com.foodredistribution.config.VersionedBy;
+import com.foodredistribution.model.DonationRequest;
+import com.foodredistribution.model.FoodDonation;
+import com.foodredistribution.service.DonationStreamService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+/**
+ * Streaming (NDJSON) variants of the busiest listings. The request thread is released as soon
+ * as the stream starts; the next document is requested from the cursor only after the previous
+ * one has been written, so memory per reader stays bounded regardless of result size.
+ */
+@RestController
+@RequestMapping("/api/stream")
+@CrossOrigin(origins = "*")
+public class DonationStreamController {
+
+    @Autowired
+    private DonationStreamService donationStreamService;
+
+    @GetMapping(value = "/donations/available", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @VersionedBy(FoodDonation.class)
+    public Flux<FoodDonation> streamAvailableDonations() {
+        return donationStreamService.streamAvailableDonations();
+    }
+
+    @GetMapping(value = "/donations/available/{organizationId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @VersionedBy(FoodDonation.class)
+    public Flux<FoodDonation> streamAvailableDonationsFromOthers(@PathVariable String organizationId) {
+        return donationStreamService.streamAvailableDonationsFromOthers(organizationId);
+    }
+
+    @GetMapping(value = "/donations/organization/{organizationId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @VersionedBy(FoodDonation.class)
+    public Flux<FoodDonation> streamDonationsByOrganization(@PathVariable String organizationId) {
+        return donationStreamService.streamDonationsByOrganization(organizationId);
+    }
+
+    @GetMapping(value = "/donations/pending", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @VersionedBy(FoodDonation.class)
+    public Flux<FoodDonation> streamReservedDonations() {
+        return donationStreamService.streamReservedDonations();
+    }
+
+    @GetMapping(value = "/donation-requests/pending", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @VersionedBy(DonationRequest.class)
+    public Flux<DonationRequest> streamPendingRequests() {
+        return donationStreamService.streamPendingRequests();
+    }
+}
@@ -1,8 +1,14 @@
 package com.foodredistribution.controller;
 
+import com.foodredistribution.config.VersionedBy;
+import com.foodredistribution.dto.OrganizationProfile;
+import com.foodredistribution.exception.TooManyRequestsException;
 import com.foodredistribution.model.Organization;
 import com.foodredistribution.service.OrganizationService;
 import org.springframework.beans.factory.annotation.Autowired;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -23,50 +29,48 @@ public class OrganizationController {
         try {
             Organization saved = organizationService.registerOrganization(organization);
             // Don't return password in response
-            saved.setPassword(null);
-            return ResponseEntity.ok(saved);
+            return ResponseEntity.ok(OrganizationProfile.from(saved));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
     
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody Map<String, String> payload) {
+    public ResponseEntity<?> login(@RequestBody Map<String, String> payload, HttpServletRequest request) {
         try {
             String email = payload.get("email");
             String password = payload.get("password");
-            Optional<Organization> orgOpt = organizationService.login(email, password);
+            Optional<Organization> orgOpt = organizationService.login(email, password, request.getRemoteAddr());
             if (orgOpt.isPresent()) {
-                Organization org = orgOpt.get();
                 // Don't return password in response
-                org.setPassword(null);
-                return ResponseEntity.ok(org);
+                return ResponseEntity.ok(OrganizationProfile.from(orgOpt.get()));
             } else {
                 return ResponseEntity.status(401).body("Invalid email or password");
             }
+        } catch (TooManyRequestsException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, Long.toString(e.getRetryAfterSeconds()))
+                    .body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
     
     @GetMapping("/{id}")
+    @VersionedBy(Organization.class)
     public ResponseEntity<?> getOrganization(@PathVariable String id) {
         try {
-            Organization org = organizationService.getOrganizationById(id);
-            // Don't return password in response
-            org.setPassword(null);
-            return ResponseEntity.ok(org);
+            // Cached, password-free snapshot
+            return ResponseEntity.ok(organizationService.getOrganizationProfile(id));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
     
     @GetMapping
-    public ResponseEntity<List<Organization>> getAllOrganizations() {
-        List<Organization> organizations = organizationService.getAllOrganizations();
-        // Don't return passwords in response
-        organizations.forEach(org -> org.setPassword(null));
-        return ResponseEntity.ok(organizations);
+    @VersionedBy(Organization.class)
+    public ResponseEntity<List<OrganizationProfile>> getAllOrganizations() {
+        return ResponseEntity.ok(organizationService.getAllOrganizationProfiles());
     }
     
     @PutMapping("/{id}")
@@ -74,8 +78,7 @@ public class OrganizationController {
         try {
             Organization updatedOrg = organizationService.updateOrganization(id, organization);
             // Don't return password in response
-            updatedOrg.setPassword(null);
-            return ResponseEntity.ok(updatedOrg);
+            return ResponseEntity.ok(OrganizationProfile.from(updatedOrg));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
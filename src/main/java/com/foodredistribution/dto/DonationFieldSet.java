@@ -0,0 +1,121 @@
+package com.foodredistribution.dto;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foodredistribution.model.FoodDonation;
+import org.springframework.data.mongodb.core.query.Field;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The donation fields a list response should carry, selected with {@code ?fields=a,b,c} or
+ * {@code ?view=summary}. A partial selection is pushed down to MongoDB as a projection so the
+ * omitted fields are neither read from storage nor serialized. The id is always returned.
+ * Projected rows are still mapped to {@link FoodDonation} and serialized with the application's
+ * ObjectMapper, so a partial row is exactly the matching subset of the full one.
+ */
+public final class DonationFieldSet {
+
+    public static final Set<String> ALLOWED_FIELDS = Arrays.stream(FoodDonation.class.getDeclaredFields())
+        .filter(field -> !Modifier.isStatic(field.getModifiers()))
+        .map(java.lang.reflect.Field::getName)
+        .collect(Collectors.toUnmodifiableSet());
+
+    public static final DonationFieldSet FULL = new DonationFieldSet(null);
+
+    // What a donation card or table row shows
+    public static final DonationFieldSet SUMMARY = new DonationFieldSet(new LinkedHashSet<>(Arrays.asList(
+        "id", "organizationId", "donorName", "foodType", "foodName", "quantity", "quantityUnit",
+        "expiryDate", "pickupAddress", "requiresRefrigeration", "status")));
+
+    private static final TypeReference<Map<String, Object>> ROW = new TypeReference<>() {
+    };
+
+    private final Set<String> fields;
+
+    private DonationFieldSet(Set<String> fields) {
+        this.fields = fields == null ? null : Collections.unmodifiableSet(fields);
+    }
+
+    /**
+     * Resolves the request parameters; an explicit field list wins over a named view and
+     * {@code defaultView} applies when neither is given.
+     */
+    public static DonationFieldSet parse(String view, String fields, DonationFieldSet defaultView) {
+        if (fields != null && !fields.isBlank()) {
+            Set<String> selected = new LinkedHashSet<>();
+            selected.add("id");
+            for (String name : fields.split(",")) {
+                String field = name.trim();
+                if (field.isEmpty()) {
+                    continue;
+                }
+                if (!ALLOWED_FIELDS.contains(field)) {
+                    throw new IllegalArgumentException("Unknown field: " + field);
+                }
+                selected.add(field);
+            }
+            return new DonationFieldSet(selected);
+        }
+        if (view == null || view.isBlank()) {
+            return defaultView;
+        }
+        if ("summary".equalsIgnoreCase(view)) {
+            return SUMMARY;
+        }
+        if ("full".equalsIgnoreCase(view)) {
+            return FULL;
+        }
+        throw new IllegalArgumentException("Unknown view: " + view);
+    }
+
+    public boolean isFull() {
+        return fields == null;
+    }
+
+    public Set<String> getFields() {
+        return fields;
+    }
+
+    /**
+     * Adds the projection to the query, together with any fields the caller needs internally
+     * (such as the sort key behind a page cursor).
+     */
+    public Query applyTo(Query query, String... alsoInclude) {
+        if (isFull()) {
+            return query;
+        }
+        Field projection = query.fields();
+        for (String field : fields) {
+            projection.include("id".equals(field) ? "_id" : field);
+        }
+        for (String field : alsoInclude) {
+            projection.include(field);
+        }
+        return query;
+    }
+
+    /**
+     * The donation as the response row for this selection: its JSON properties as
+     * {@code objectMapper} writes them, narrowed to the selected fields in selection order.
+     */
+    public Map<String, Object> render(FoodDonation donation, ObjectMapper objectMapper) {
+        Map<String, Object> all = objectMapper.convertValue(donation, ROW);
+        if (isFull()) {
+            return all;
+        }
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (String field : fields) {
+            row.put(field, all.get(field));
+        }
+        return row;
+    }
+}
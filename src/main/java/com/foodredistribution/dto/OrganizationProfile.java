@@ -0,0 +1,54 @@
+package com.foodredistribution.dto;
+
+import com.foodredistribution.model.Organization;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+
+import java.util.Date;
+
+/**
+ * Immutable, password-free view of an {@link Organization}, safe to cache and share.
+ */
+public final class OrganizationProfile {
+
+    private final String id;
+    private final String name;
+    private final String email;
+    private final String phone;
+    private final String address;
+    private final GeoJsonPoint location;
+    private final String type;
+    private final String description;
+    private final Date registrationDate;
+    private final Boolean refrigeratedStorage;
+
+    private OrganizationProfile(Organization org) {
+        this.id = org.getId();
+        this.name = org.getName();
+        this.email = org.getEmail();
+        this.phone = org.getPhone();
+        this.address = org.getAddress();
+        this.location = org.getLocation();
+        this.type = org.getType();
+        this.description = org.getDescription();
+        this.registrationDate = org.getRegistrationDate() == null ? null : new Date(org.getRegistrationDate().getTime());
+        this.refrigeratedStorage = org.getRefrigeratedStorage();
+    }
+
+    public static OrganizationProfile from(Organization org) {
+        return new OrganizationProfile(org);
+    }
+
+    public String getId() { return id; }
+    public String getName() { return name; }
+    public String getEmail() { return email; }
+    public String getPhone() { return phone; }
+    public String getAddress() { return address; }
+    public GeoJsonPoint getLocation() { return location; }
+    public String getType() { return type; }
+    public String getDescription() { return description; }
+    public Boolean getRefrigeratedStorage() { return refrigeratedStorage; }
+
+    public Date getRegistrationDate() {
+        return registrationDate == null ? null : new Date(registrationDate.getTime());
+    }
+}
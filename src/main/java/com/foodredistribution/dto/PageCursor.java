@@ -0,0 +1,48 @@
+package com.foodredistribution.dto;
+
+import org.bson.types.ObjectId;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * Keyset position of the last document on a page: its sort date plus its _id.
+ * Serialized as an opaque URL-safe token so clients never depend on the layout.
+ */
+public class PageCursor {
+
+    private static final String NULL_DATE = "-";
+
+    private final Date date;
+    private final ObjectId id;
+
+    public PageCursor(Date date, ObjectId id) {
+        this.date = date;
+        this.id = id;
+    }
+
+    public Date getDate() { return date; }
+    public ObjectId getId() { return id; }
+
+    public String encode() {
+        String raw = (date == null ? NULL_DATE : Long.toString(date.getTime())) + ":" + id.toHexString();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String encode(Date date, String id) {
+        return new PageCursor(date, new ObjectId(id)).encode();
+    }
+
+    public static PageCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            String datePart = raw.substring(0, separator);
+            Date date = NULL_DATE.equals(datePart) ? null : new Date(Long.parseLong(datePart));
+            return new PageCursor(date, new ObjectId(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid page cursor");
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.foodredistribution.event;
+
+import com.foodredistribution.model.FoodDonation;
+import com.foodredistribution.model.Organization;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fans domain events out to connected admin dashboards over Server-Sent Events.
+ * Recent events are kept in a bounded buffer so a reconnecting client can resume from
+ * its Last-Event-ID; clients that fell too far behind are told to resync instead.
+ *
+ * <p>Each subscriber has its own bounded queue, drained by its own task, because a send
+ * blocks while that client's TCP window is full. Publishing only enqueues, so one stalled
+ * dashboard never holds up the others. A subscriber whose queue overflows has its backlog
+ * replaced by a resync, and later events are discarded until that resync is sent. A subscriber
+ * whose send has been stuck for longer than {@value #STALL_TIMEOUT_MS} ms is dropped.
+ */
+@Component
+public class AdminEventBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(AdminEventBroadcaster.class);
+
+    private static final long EMITTER_TIMEOUT_MS = 30 * 60 * 1000L;
+    private static final int REPLAY_BUFFER_SIZE = 500;
+    private static final int SUBSCRIBER_QUEUE_SIZE = 100;
+    private static final long STALL_TIMEOUT_MS = 30 * 1000L;
+
+    // Event ids are "<epoch>-<sequence>"; a different epoch means the server restarted
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    // Guards sequence, recent and the order events are queued in; never held while sending
+    private final ReentrantLock lock = new ReentrantLock();
+    private long sequence;
+    private final Deque<StreamEvent> recent = new ArrayDeque<>();
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    // One drain task per subscriber with pending events. Platform threads: SseEmitter.send is
+    // synchronized, so a send stuck on a full TCP window would pin a virtual thread's carrier
+    private final AtomicInteger senderCount = new AtomicInteger();
+    private final ExecutorService senders = Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "admin-sse-" + senderCount.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+    });
+
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        // Replay and registration under the lock, so no event is missed or queued twice
+        lock.lock();
+        try {
+            if (lastEventId != null && !lastEventId.isEmpty()) {
+                for (SseEmitter.SseEventBuilder event : replaySince(lastEventId)) {
+                    subscriber.offer(event);
+                }
+            }
+            subscribers.add(subscriber);
+        } finally {
+            lock.unlock();
+        }
+        return emitter;
+    }
+
+    @EventListener
+    public void onDonationChanged(DonationChangedEvent event) {
+        FoodDonation d = event.getDonation();
+        Map<String, Object> data = new HashMap<>();
+        data.put("id", d.getId());
+        data.put("organizationId", d.getOrganizationId());
+        data.put("donorName", d.getDonorName());
+        data.put("foodType", d.getFoodType());
+        data.put("foodName", d.getFoodName());
+        data.put("quantity", d.getQuantity());
+        data.put("quantityUnit", d.getQuantityUnit());
+        data.put("status", d.getStatus());
+        data.put("requestedDate", d.getRequestedDate());
+        publish("donation." + event.getType(), data);
+    }
+
+    @EventListener
+    public void onDonationsExpired(DonationsExpiredEvent event) {
+        publish("donations.expired", Map.of("count", event.getCount()));
+    }
+
+    @EventListener
+    public void onOrganizationRegistered(OrganizationRegisteredEvent event) {
+        Organization org = event.getOrganization();
+        Map<String, Object> data = new HashMap<>();
+        data.put("id", org.getId());
+        data.put("name", org.getName());
+        data.put("email", org.getEmail());
+        data.put("phone", org.getPhone());
+        publish("organization.registered", data);
+    }
+
+    @Scheduled(fixedRate = 15000)
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            // Only to keep idle connections open; a busy queue already does that
+            subscriber.offerIfRoom(SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    private void publish(String name, Object data) {
+        lock.lock();
+        try {
+            StreamEvent event = new StreamEvent(epoch + "-" + (++sequence), name, data);
+            recent.addLast(event);
+            if (recent.size() > REPLAY_BUFFER_SIZE) {
+                recent.removeFirst();
+            }
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(event.toSse());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Called with the lock held, which owns the replay buffer
+    private List<SseEmitter.SseEventBuilder> replaySince(String lastEventId) {
+        long lastSeen = parseSequence(lastEventId);
+        StreamEvent oldest = recent.peekFirst();
+        long oldestSequence = oldest == null ? sequence + 1 : parseSequence(oldest.id);
+        if (lastSeen < 0 || lastSeen > sequence || lastSeen < oldestSequence - 1) {
+            return List.of(resync());
+        }
+        List<SseEmitter.SseEventBuilder> missed = new ArrayList<>();
+        for (StreamEvent event : recent) {
+            if (parseSequence(event.id) > lastSeen) {
+                missed.add(event.toSse());
+            }
+        }
+        return missed;
+    }
+
+    private long parseSequence(String eventId) {
+        int dash = eventId.indexOf('-');
+        if (dash < 0 || !epoch.equals(eventId.substring(0, dash))) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(dash + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static SseEmitter.SseEventBuilder resync() {
+        return SseEmitter.event().name("resync").data(Map.of());
+    }
+
+    private void drop(Subscriber subscriber, Exception cause) {
+        log.debug("Dropping admin event subscriber: {}", cause.getMessage());
+        subscribers.remove(subscriber);
+        subscriber.queue.clear();
+        subscriber.emitter.completeWithError(cause);
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue = new ArrayBlockingQueue<>(SUBSCRIBER_QUEUE_SIZE);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // The resync that replaced an overflowed backlog, until it has been taken off the queue
+        private volatile SseEmitter.SseEventBuilder pendingResync;
+        // When the send in progress started, or 0 between sends
+        private volatile long sendingSince;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(SseEmitter.SseEventBuilder event) {
+            if (!queue.offer(event)) {
+                long since = sendingSince;
+                if (since != 0 && System.nanoTime() - since > STALL_TIMEOUT_MS * 1_000_000) {
+                    drop(this, new IOException("Subscriber stalled for over " + STALL_TIMEOUT_MS + " ms"));
+                    return;
+                }
+                if (pendingResync != null) {
+                    // The client will reload everything anyway
+                    return;
+                }
+                pendingResync = resync();
+                queue.clear();
+                queue.offer(pendingResync);
+            }
+            scheduleDrain();
+        }
+
+        void offerIfRoom(SseEmitter.SseEventBuilder event) {
+            if (queue.offer(event)) {
+                scheduleDrain();
+            }
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    senders.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // Shutting down
+                }
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                SseEmitter.SseEventBuilder event;
+                while ((event = queue.poll()) != null) {
+                    if (event == pendingResync) {
+                        pendingResync = null;
+                    }
+                    sendingSince = System.nanoTime();
+                    try {
+                        emitter.send(event);
+                    } catch (IOException | IllegalStateException e) {
+                        drop(this, e);
+                        return;
+                    } finally {
+                        sendingSince = 0;
+                    }
+                }
+                draining.set(false);
+                // An event queued after the last poll but before the flag was cleared
+                if (queue.isEmpty() || !draining.compareAndSet(false, true)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private record StreamEvent(String id, String name, Object data) {
+        SseEmitter.SseEventBuilder toSse() {
+            return SseEmitter.event().id(id).name(name).data(data);
+        }
+    }
+}
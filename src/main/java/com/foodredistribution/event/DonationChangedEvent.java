@@ -0,0 +1,21 @@
+package com.foodredistribution.event;
+
+import com.foodredistribution.model.FoodDonation;
+
+/**
+ * Published after a donation is created or changes status. {@code type} is one of
+ * created, reserved, donated, rejected, cancelled or expired.
+ */
+public class DonationChangedEvent {
+
+    private final String type;
+    private final FoodDonation donation;
+
+    public DonationChangedEvent(String type, FoodDonation donation) {
+        this.type = type;
+        this.donation = donation;
+    }
+
+    public String getType() { return type; }
+    public FoodDonation getDonation() { return donation; }
+}
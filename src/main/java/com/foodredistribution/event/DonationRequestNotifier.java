@@ -0,0 +1,128 @@
+package com.foodredistribution.event;
+
+import com.foodredistribution.model.DonationRequest;
+import com.foodredistribution.service.DonationRequestService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Per-organization Server-Sent Events channel for donation request decisions. On connect
+ * the organization receives any decisions it has not seen yet; after that only new
+ * decisions are pushed. A successful send only means the event was buffered, so nothing is
+ * marked as shown here: the page acknowledges each decision through mark-notified once it
+ * has displayed it, and an unacknowledged one is sent again on the next connect.
+ */
+@Component
+public class DonationRequestNotifier {
+
+    private static final Logger log = LoggerFactory.getLogger(DonationRequestNotifier.class);
+
+    private static final long EMITTER_TIMEOUT_MS = 30 * 60 * 1000L;
+    private static final String EVENT_NAME = "request.status";
+
+    @Autowired
+    private DonationRequestService donationRequestService;
+
+    private final Map<String, List<SseEmitter>> emittersByOrganization = new ConcurrentHashMap<>();
+    private final ExecutorService sender = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "request-notifier-sse");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public SseEmitter subscribe(String organizationId) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        Runnable remove = () -> unsubscribe(organizationId, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        // Register before reading the backlog so no decision falls in between; a decision
+        // made in that window may arrive twice, which the client tolerates.
+        emittersByOrganization.compute(organizationId, (id, emitters) -> {
+            List<SseEmitter> list = emitters == null ? new CopyOnWriteArrayList<>() : emitters;
+            list.add(emitter);
+            return list;
+        });
+
+        for (DonationRequest request : donationRequestService.getUndeliveredDecisions(organizationId)) {
+            if (!send(organizationId, emitter, request)) {
+                break;
+            }
+        }
+        return emitter;
+    }
+
+    @EventListener
+    public void onStatusChanged(DonationRequestStatusChangedEvent event) {
+        DonationRequest request = event.getRequest();
+        sender.execute(() -> {
+            List<SseEmitter> emitters = emittersByOrganization.get(request.getOrganizationId());
+            if (emitters == null) {
+                return;
+            }
+            for (SseEmitter emitter : emitters) {
+                send(request.getOrganizationId(), emitter, request);
+            }
+        });
+    }
+
+    @Scheduled(fixedRate = 25000)
+    public void heartbeat() {
+        if (emittersByOrganization.isEmpty()) {
+            return;
+        }
+        sender.execute(() -> emittersByOrganization.forEach((organizationId, emitters) -> {
+            for (SseEmitter emitter : emitters) {
+                try {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } catch (IOException | IllegalStateException e) {
+                    drop(organizationId, emitter, e);
+                }
+            }
+        }));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        emittersByOrganization.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+    }
+
+    private boolean send(String organizationId, SseEmitter emitter, DonationRequest request) {
+        try {
+            emitter.send(SseEmitter.event().id(request.getId()).name(EVENT_NAME).data(request));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            drop(organizationId, emitter, e);
+            return false;
+        }
+    }
+
+    private void drop(String organizationId, SseEmitter emitter, Exception cause) {
+        log.debug("Dropping request notification subscriber for {}: {}", organizationId, cause.getMessage());
+        unsubscribe(organizationId, emitter);
+        emitter.completeWithError(cause);
+    }
+
+    private void unsubscribe(String organizationId, SseEmitter emitter) {
+        emittersByOrganization.computeIfPresent(organizationId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
@@ -0,0 +1,17 @@
+package com.foodredistribution.event;
+
+import com.foodredistribution.model.DonationRequest;
+
+/**
+ * Published after an admin approves or rejects a donation request.
+ */
+public class DonationRequestStatusChangedEvent {
+
+    private final DonationRequest request;
+
+    public DonationRequestStatusChangedEvent(DonationRequest request) {
+        this.request = request;
+    }
+
+    public DonationRequest getRequest() { return request; }
+}
@@ -0,0 +1,16 @@
+package com.foodredistribution.event;
+
+/**
+ * Published after a bulk expiry sweep changed at least one donation. The sweep is a single
+ * updateMany, so only the number of affected documents is known.
+ */
+public class DonationsExpiredEvent {
+
+    private final long count;
+
+    public DonationsExpiredEvent(long count) {
+        this.count = count;
+    }
+
+    public long getCount() { return count; }
+}
@@ -0,0 +1,17 @@
+package com.foodredistribution.event;
+
+import com.foodredistribution.model.Organization;
+
+/**
+ * Published after a new organization has been saved.
+ */
+public class OrganizationRegisteredEvent {
+
+    private final Organization organization;
+
+    public OrganizationRegisteredEvent(Organization organization) {
+        this.organization = organization;
+    }
+
+    public Organization getOrganization() { return organization; }
+}
@@ -0,0 +1,20 @@
+package com.foodredistribution.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * A donation was not in a state that allows the requested transition, typically because
+ * another request changed it first.
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class InvalidStatusTransitionException extends IllegalStateException {
+
+    public InvalidStatusTransitionException(String message) {
+        super(message);
+    }
+
+    public InvalidStatusTransitionException(String currentStatus, String targetStatus) {
+        super("Donation is " + currentStatus + " and cannot move to " + targetStatus);
+    }
+}
@@ -0,0 +1,15 @@
+package com.foodredistribution.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * No donation request has the given id.
+ */
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class RequestNotFoundException extends RuntimeException {
+
+    public RequestNotFoundException(String requestId) {
+        super("Request not found: " + requestId);
+    }
+}
@@ -0,0 +1,113 @@
+package com.foodredistribution.geo;
+
+import org.springframework.core.io.Resource;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Offline geocoder backed by a table of place names, one {@code name,latitude,longitude} line
+ * each; the name may itself contain commas, e.g. {@code Karol Bagh, Delhi,28.6519,77.1909}.
+ * Lines starting with # are comments.
+ *
+ * <p>Addresses are matched on their comma-separated components, most specific first: for each
+ * component, left to right, the component together with the next one is tried, then the
+ * component alone. Case, punctuation and purely numeric tokens (house numbers, postcodes) are
+ * ignored, so "12-B, Karol Bagh, New Delhi 110005" resolves through "Karol Bagh, New Delhi"
+ * or "Karol Bagh".
+ */
+public class FileGeocoder implements Geocoder {
+
+    private final Map<String, GeoJsonPoint> places;
+
+    public FileGeocoder(Map<String, GeoJsonPoint> places) {
+        this.places = new HashMap<>();
+        places.forEach((name, point) -> this.places.put(String.join(", ", components(name)), point));
+    }
+
+    public static FileGeocoder load(Resource resource) {
+        Map<String, GeoJsonPoint> places = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                int lonComma = line.lastIndexOf(',');
+                int latComma = lonComma < 0 ? -1 : line.lastIndexOf(',', lonComma - 1);
+                if (latComma <= 0) {
+                    throw new IllegalArgumentException(resource.getDescription() + " line " + lineNumber
+                            + ": expected name,latitude,longitude");
+                }
+                try {
+                    double latitude = Double.parseDouble(line.substring(latComma + 1, lonComma).strip());
+                    double longitude = Double.parseDouble(line.substring(lonComma + 1).strip());
+                    places.put(line.substring(0, latComma), new GeoJsonPoint(longitude, latitude));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException(resource.getDescription() + " line " + lineNumber
+                            + ": invalid coordinates", e);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read places from " + resource.getDescription(), e);
+        }
+        return new FileGeocoder(places);
+    }
+
+    @Override
+    public GeoJsonPoint geocode(String address) {
+        if (address == null || address.isBlank()) {
+            return null;
+        }
+        List<String> parts = components(address);
+        for (int i = 0; i < parts.size(); i++) {
+            if (i + 1 < parts.size()) {
+                GeoJsonPoint qualified = places.get(parts.get(i) + ", " + parts.get(i + 1));
+                if (qualified != null) {
+                    return qualified;
+                }
+            }
+            GeoJsonPoint point = places.get(parts.get(i));
+            if (point != null) {
+                return point;
+            }
+        }
+        return null;
+    }
+
+    public int size() {
+        return places.size();
+    }
+
+    private static List<String> components(String text) {
+        List<String> parts = new ArrayList<>();
+        for (String component : text.toLowerCase(Locale.ROOT).split(",")) {
+            StringBuilder normalized = new StringBuilder();
+            for (String token : component.split("[^\\p{L}\\p{N}]+")) {
+                if (!token.isEmpty() && !token.chars().allMatch(Character::isDigit)) {
+                    if (!normalized.isEmpty()) {
+                        normalized.append(' ');
+                    }
+                    normalized.append(token);
+                }
+            }
+            if (!normalized.isEmpty()) {
+                parts.add(normalized.toString());
+            }
+        }
+        return parts;
+    }
+}
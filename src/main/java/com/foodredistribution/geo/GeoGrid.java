@@ -0,0 +1,98 @@
+package com.foodredistribution.geo;
+
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory index of points bucketed into cells of roughly equal latitude and longitude
+ * degrees, for many radius lookups against one snapshot. A lookup scans only the cells that
+ * overlap the radius and then checks great-circle distances. Does not wrap at the antimeridian.
+ */
+public final class GeoGrid<T> {
+
+    private static final double KM_PER_DEGREE = 111.32;
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    public record Hit<T>(T item, double distanceKm) {
+    }
+
+    private record Entry<T>(T item, double latitude, double longitude) {
+    }
+
+    private final double cellDegrees;
+    private final Map<Long, List<Entry<T>>> cells = new HashMap<>();
+    private int size;
+
+    /**
+     * @param cellKm cell height in kilometres; about the typical lookup radius works best
+     */
+    public GeoGrid(double cellKm) {
+        if (!(cellKm > 0)) {
+            throw new IllegalArgumentException("cellKm must be positive");
+        }
+        this.cellDegrees = cellKm / KM_PER_DEGREE;
+    }
+
+    public void add(T item, GeoJsonPoint point) {
+        double latitude = point.getY();
+        double longitude = point.getX();
+        cells.computeIfAbsent(key(cell(latitude), cell(longitude)), k -> new ArrayList<>())
+                .add(new Entry<>(item, latitude, longitude));
+        size++;
+    }
+
+    /**
+     * Items within {@code radiusKm} of {@code center}, in no particular order.
+     */
+    public List<Hit<T>> within(GeoJsonPoint center, double radiusKm) {
+        double latitude = center.getY();
+        double longitude = center.getX();
+        double latSpan = radiusKm / KM_PER_DEGREE;
+        // Longitude degrees shrink towards the poles
+        double lonSpan = Math.min(180, radiusKm / (KM_PER_DEGREE * Math.max(Math.cos(Math.toRadians(latitude)), 1e-6)));
+
+        List<Hit<T>> hits = new ArrayList<>();
+        for (long row = cell(latitude - latSpan); row <= cell(latitude + latSpan); row++) {
+            for (long col = cell(longitude - lonSpan); col <= cell(longitude + lonSpan); col++) {
+                List<Entry<T>> entries = cells.get(key(row, col));
+                if (entries == null) {
+                    continue;
+                }
+                for (Entry<T> entry : entries) {
+                    double distance = distanceKm(latitude, longitude, entry.latitude(), entry.longitude());
+                    if (distance <= radiusKm) {
+                        hits.add(new Hit<>(entry.item(), distance));
+                    }
+                }
+            }
+        }
+        return hits;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Great-circle (haversine) distance in kilometres.
+     */
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private long cell(double degrees) {
+        return (long) Math.floor(degrees / cellDegrees);
+    }
+
+    private static long key(long row, long col) {
+        return (row << 32) ^ (col & 0xffffffffL);
+    }
+}
@@ -0,0 +1,16 @@
+package com.foodredistribution.geo;
+
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+
+/**
+ * Turns a free-text address into coordinates. The default implementation is
+ * {@link FileGeocoder}; declare another {@code Geocoder} bean to replace it.
+ */
+public interface Geocoder {
+
+    /**
+     * Returns the point for {@code address} (x = longitude, y = latitude), or null when the
+     * address is blank or cannot be resolved.
+     */
+    GeoJsonPoint geocode(String address);
+}
@@ -0,0 +1,59 @@
+package com.foodredistribution.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Publishes the hit/miss counters our in-process caches already keep as the standard
+ * {@code cache.*} meters. All of them are read-through, so every miss is also a put.
+ */
+public class CacheStatsMeterBinder<C> extends CacheMeterBinder<C> {
+
+    private final ToLongFunction<C> hits;
+    private final ToLongFunction<C> misses;
+    private final ToLongFunction<C> size;
+
+    public CacheStatsMeterBinder(C cache, String cacheName,
+                                 ToLongFunction<C> hits, ToLongFunction<C> misses, ToLongFunction<C> size) {
+        super(cache, cacheName, Tags.empty());
+        this.hits = hits;
+        this.misses = misses;
+        this.size = size;
+    }
+
+    @Override
+    protected Long size() {
+        C cache = getCache();
+        return cache == null ? null : size.applyAsLong(cache);
+    }
+
+    @Override
+    protected long hitCount() {
+        C cache = getCache();
+        return cache == null ? 0 : hits.applyAsLong(cache);
+    }
+
+    @Override
+    protected Long missCount() {
+        C cache = getCache();
+        return cache == null ? null : misses.applyAsLong(cache);
+    }
+
+    @Override
+    protected Long evictionCount() {
+        return null;
+    }
+
+    @Override
+    protected long putCount() {
+        Long missCount = missCount();
+        return missCount == null ? 0 : missCount;
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.foodredistribution.metrics;
+
+import com.foodredistribution.event.DonationChangedEvent;
+import com.foodredistribution.event.DonationRequestStatusChangedEvent;
+import com.foodredistribution.event.DonationsExpiredEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Business counters fed from the domain events: {@code donations{event=...}} counts donations
+ * created, reserved, approved, rejected, cancelled and expired, {@code donation.requests{status=...}}
+ * counts admin decisions on donation requests.
+ */
+@Component
+public class DonationMetrics {
+
+    private static final List<String> DONATION_EVENTS =
+        List.of("created", "reserved", "approved", "rejected", "cancelled", "expired");
+
+    private final MeterRegistry registry;
+    private final Map<String, Counter> donationCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> requestCounters = new ConcurrentHashMap<>();
+
+    public DonationMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        // Registered up front so every series exists, at zero, from the first scrape
+        DONATION_EVENTS.forEach(this::donationCounter);
+    }
+
+    @EventListener
+    public void onDonationChanged(DonationChangedEvent event) {
+        // An admin approving a reservation moves the donation to DONATED
+        String type = "donated".equals(event.getType()) ? "approved" : event.getType();
+        donationCounter(type).increment();
+    }
+
+    @EventListener
+    public void onDonationsExpired(DonationsExpiredEvent event) {
+        donationCounter("expired").increment(event.getCount());
+    }
+
+    @EventListener
+    public void onRequestStatusChanged(DonationRequestStatusChangedEvent event) {
+        String status = event.getRequest().getStatus().toLowerCase();
+        requestCounters.computeIfAbsent(status, key -> Counter.builder("donation.requests")
+            .description("Donation requests decided by an admin")
+            .tag("status", key)
+            .register(registry)).increment();
+    }
+
+    private Counter donationCounter(String type) {
+        return donationCounters.computeIfAbsent(type, key -> Counter.builder("donations")
+            .description("Donation lifecycle events")
+            .tag("event", key)
+            .register(registry));
+    }
+}
@@ -1,6 +1,7 @@
 package com.foodredistribution.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -13,6 +14,7 @@ import java.util.Collections;
 public class Admin implements UserDetails {
     @Id
     private String id;
+    @Indexed(name = "username_unique", unique = true)
     private String username;
     private String password;
     private String role = "ROLE_ADMIN";
@@ -0,0 +1,35 @@
+package com.foodredistribution.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Number of donations with a given status, from a given organization or of a given food type.
+ * The id is {@code <dimension>:<key>}, e.g. {@code status:AVAILABLE}.
+ */
+@CompoundIndex(name = "dimension_count", def = "{'dimension': 1, 'count': -1}")
+@Document(collection = "donation_counters")
+public class DonationCounter {
+    @Id
+    private String id;
+    private String dimension;
+    private String key;
+    private long count;
+
+    public static String idOf(String dimension, String key) {
+        return dimension + ":" + key;
+    }
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getDimension() { return dimension; }
+    public void setDimension(String dimension) { this.dimension = dimension; }
+
+    public String getKey() { return key; }
+    public void setKey(String key) { this.key = key; }
+
+    public long getCount() { return count; }
+    public void setCount(long count) { this.count = count; }
+}
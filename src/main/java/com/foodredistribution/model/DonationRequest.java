@@ -1,23 +1,35 @@
 package com.foodredistribution.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.Date;
 
+@CompoundIndexes({
+    @CompoundIndex(name = "status_requestDate", def = "{'status': 1, 'requestDate': 1}"),
+    @CompoundIndex(name = "organizationId_requestDate", def = "{'organizationId': 1, 'requestDate': -1}"),
+    // undelivered decisions for the notification channel
+    @CompoundIndex(name = "organizationId_notificationShown", def = "{'organizationId': 1, 'notificationShown': 1}"),
+    // requests already made for a donation, checked by the matching engine
+    @CompoundIndex(name = "donationId_organizationId", def = "{'donationId': 1, 'organizationId': 1}")
+})
 @Document(collection = "donation_requests")
 public class DonationRequest {
     @Id
     private String id;
     private String organizationId;
     private String donationId;
-    private String status; // PENDING, APPROVED, REJECTED
+    private String status; // PROPOSED, DECLINED, PENDING, APPROVED, REJECTED
     private Date requestDate;
     private Date approvalDate;
     private String approvedBy; // Admin ID
     private String notes;
     private boolean notificationShown;
-    private String processedBy;
+    private String processedBy; // organization that declined a proposal, or SYSTEM when closed for another
     private Date processedDate;
+    private String source; // "MATCHING" when created by the matching engine
+    private Double score; // matching score in [0, 1]
 
     public DonationRequest() {
         this.requestDate = new Date();
@@ -79,4 +91,10 @@ public class DonationRequest {
     public void setProcessedDate(Date processedDate) {
         this.processedDate = processedDate;
     }
+
+    public String getSource() { return source; }
+    public void setSource(String source) { this.source = source; }
+
+    public Double getScore() { return score; }
+    public void setScore(Double score) { this.score = score; }
 } 
\ No newline at end of file
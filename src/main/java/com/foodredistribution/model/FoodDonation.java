@@ -1,9 +1,24 @@
 package com.foodredistribution.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.Date;
 
+@CompoundIndexes({
+    // findByStatus, expiry queries and the expiry sweep
+    @CompoundIndex(name = "status_expiryDate", def = "{'status': 1, 'expiryDate': 1}"),
+    // findByOrganizationId, newest first
+    @CompoundIndex(name = "organizationId_createdDate", def = "{'organizationId': 1, 'createdDate': -1}"),
+    // pending (RESERVED) requests in request order
+    @CompoundIndex(name = "status_requestedDate", def = "{'status': 1, 'requestedDate': 1}"),
+    // keyset pagination
+    @CompoundIndex(name = "createdDate_id", def = "{'createdDate': -1, '_id': -1}"),
+    // nearby AVAILABLE donations ($geoNear)
+    @CompoundIndex(name = "location_2dsphere_status", def = "{'location': '2dsphere', 'status': 1}")
+})
 @Document(collection = "food_donations")
 public class FoodDonation {
     @Id
@@ -14,8 +29,13 @@ public class FoodDonation {
     private String foodName;
     private String quantity;
     private String quantityUnit;
+    // Derived from quantity and quantityUnit on every write, for totals; see QuantityNormalizer
+    private Double normalizedQuantity;
+    private String normalizedUnit;
     private Date expiryDate;
     private String pickupAddress;
+    // Geocoded from pickupAddress; absent when the address could not be resolved
+    private GeoJsonPoint location;
     private String contactPhone;
     private boolean requiresRefrigeration;
     private String notes;
@@ -25,6 +45,8 @@ public class FoodDonation {
     private Date requestedDate;
     private String processedBy;
     private Date processedDate;
+    // When the matching engine last proposed receivers for this donation
+    private Date matchedDate;
 
     public String getId() {
         return id;
@@ -82,6 +104,22 @@ public class FoodDonation {
         this.quantityUnit = quantityUnit;
     }
 
+    public Double getNormalizedQuantity() {
+        return normalizedQuantity;
+    }
+
+    public void setNormalizedQuantity(Double normalizedQuantity) {
+        this.normalizedQuantity = normalizedQuantity;
+    }
+
+    public String getNormalizedUnit() {
+        return normalizedUnit;
+    }
+
+    public void setNormalizedUnit(String normalizedUnit) {
+        this.normalizedUnit = normalizedUnit;
+    }
+
     public Date getExpiryDate() {
         return expiryDate;
     }
@@ -98,6 +136,14 @@ public class FoodDonation {
         this.pickupAddress = pickupAddress;
     }
 
+    public GeoJsonPoint getLocation() {
+        return location;
+    }
+
+    public void setLocation(GeoJsonPoint location) {
+        this.location = location;
+    }
+
     public String getContactPhone() {
         return contactPhone;
     }
@@ -169,4 +215,12 @@ public class FoodDonation {
     public void setProcessedDate(Date processedDate) {
         this.processedDate = processedDate;
     }
+
+    public Date getMatchedDate() {
+        return matchedDate;
+    }
+
+    public void setMatchedDate(Date matchedDate) {
+        this.matchedDate = matchedDate;
+    }
 }
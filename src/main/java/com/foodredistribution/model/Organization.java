@@ -1,21 +1,30 @@
 package com.foodredistribution.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.Date;
 
+@CompoundIndex(name = "registrationDate_id", def = "{'registrationDate': -1, '_id': -1}")
 @Document(collection = "organizations")
 public class Organization {
     @Id
     private String id;
     private String name;
+    @Indexed(name = "email_unique", unique = true)
     private String email;
     private String password;
     private String phone;
     private String address;
+    // Geocoded from address; absent when the address could not be resolved
+    private GeoJsonPoint location;
     private String type; // "NGO" or "INDIVIDUAL"
     private String description;
     private Date registrationDate;
+    // Whether the organization can keep chilled food; null when not stated
+    private Boolean refrigeratedStorage;
     
     // No-args constructor required by MongoDB
     public Organization() {
@@ -51,6 +60,9 @@ public class Organization {
     public String getAddress() { return address; }
     public void setAddress(String address) { this.address = address; }
     
+    public GeoJsonPoint getLocation() { return location; }
+    public void setLocation(GeoJsonPoint location) { this.location = location; }
+    
     public String getType() { return type; }
     public void setType(String type) { this.type = type; }
     
@@ -59,4 +71,7 @@ public class Organization {
     
     public Date getRegistrationDate() { return registrationDate; }
     public void setRegistrationDate(Date registrationDate) { this.registrationDate = registrationDate; }
+    
+    public Boolean getRefrigeratedStorage() { return refrigeratedStorage; }
+    public void setRefrigeratedStorage(Boolean refrigeratedStorage) { this.refrigeratedStorage = refrigeratedStorage; }
 }
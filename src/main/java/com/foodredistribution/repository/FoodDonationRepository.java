@@ -12,4 +12,4 @@ public interface FoodDonationRepository extends MongoRepository<FoodDonation, St
     List<FoodDonation> findByStatus(String status);
     List<FoodDonation> findByExpiryDateBeforeAndStatus(Date date, String status);
     List<FoodDonation> findByExpiryDateBeforeAndStatusNot(Date date, String status);
-} 
\ No newline at end of file
+}
@@ -1,10 +1,27 @@
 package com.foodredistribution.repository;
 
 import com.foodredistribution.model.Organization;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
 public interface OrganizationRepository extends MongoRepository<Organization, String> {
     Optional<Organization> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // Keyset pagination, newest registration first. Seeded organizations have no registrationDate
+    // and sort after all dated ones.
+    @Query(value = "{}", sort = "{ registrationDate: -1, _id: -1 }")
+    List<Organization> findFirstPage(Pageable pageable);
+
+    @Query(value = "{ $or: [ { registrationDate: { $lt: ?0 } }, { registrationDate: ?0, _id: { $lt: ?1 } }, { registrationDate: null } ] }",
+           sort = "{ registrationDate: -1, _id: -1 }")
+    List<Organization> findPageAfter(Date registrationDate, ObjectId id, Pageable pageable);
+
+    @Query(value = "{ registrationDate: null, _id: { $lt: ?0 } }", sort = "{ registrationDate: -1, _id: -1 }")
+    List<Organization> findUndatedPageAfter(ObjectId id, Pageable pageable);
 }
@@ -0,0 +1,17 @@
+package com.foodredistribution.repository;
+
+import com.foodredistribution.model.DonationRequest;
+import org.springframework.data.mongodb.repository.Meta;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+/**
+ * Non-blocking counterpart of {@link DonationRequestRepository} for streaming listings.
+ */
+@Repository
+public interface ReactiveDonationRequestRepository extends ReactiveMongoRepository<DonationRequest, String> {
+
+    @Meta(cursorBatchSize = ReactiveFoodDonationRepository.CURSOR_BATCH_SIZE)
+    Flux<DonationRequest> findByStatus(String status);
+}
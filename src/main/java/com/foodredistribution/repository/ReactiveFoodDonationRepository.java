@@ -0,0 +1,27 @@
+package com.foodredistribution.repository;
+
+import com.foodredistribution.model.FoodDonation;
+import org.springframework.data.mongodb.repository.Meta;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+/**
+ * Non-blocking counterpart of {@link FoodDonationRepository} for the high-volume listings.
+ * Small cursor batches keep the driver fetching only as fast as the response is written.
+ */
+@Repository
+public interface ReactiveFoodDonationRepository extends ReactiveMongoRepository<FoodDonation, String> {
+
+    @Meta(cursorBatchSize = ReactiveFoodDonationRepository.CURSOR_BATCH_SIZE)
+    Flux<FoodDonation> findByStatus(String status);
+
+    @Meta(cursorBatchSize = ReactiveFoodDonationRepository.CURSOR_BATCH_SIZE)
+    Flux<FoodDonation> findByOrganizationIdOrderByCreatedDateDesc(String organizationId);
+
+    // Marketplace browse, soonest expiry first; served by the {status, expiryDate} index
+    @Meta(cursorBatchSize = ReactiveFoodDonationRepository.CURSOR_BATCH_SIZE)
+    Flux<FoodDonation> findByStatusAndOrganizationIdNotOrderByExpiryDateAsc(String status, String organizationId);
+
+    int CURSOR_BATCH_SIZE = 100;
+}
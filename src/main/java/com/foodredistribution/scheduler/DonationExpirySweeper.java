@@ -0,0 +1,42 @@
+package com.foodredistribution.scheduler;
+
+import com.foodredistribution.service.DonationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically expires stale donations. Each run is a single updateMany, so its cost
+ * does not depend on how many documents it touches. {@link DonationExpiryTimer} expires
+ * donations at their due time; this is the backstop for any a timer missed, e.g. one written
+ * by another instance that stopped before expiring it.
+ */
+@Component
+@ConditionalOnProperty(name = "donation.expiry.sweep-enabled", havingValue = "true", matchIfMissing = true)
+public class DonationExpirySweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(DonationExpirySweeper.class);
+
+    @Autowired
+    private DonationService donationService;
+
+    @Scheduled(initialDelayString = "${donation.expiry.sweep-interval-ms:900000}",
+               fixedDelayString = "${donation.expiry.sweep-interval-ms:900000}")
+    public void sweep() {
+        long started = System.nanoTime();
+        try {
+            long expired = donationService.checkAndUpdateExpiredDonations();
+            long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+            if (expired > 0) {
+                log.info("Expiry sweep marked {} donation(s) EXPIRED in {} ms", expired, elapsedMs);
+            } else {
+                log.debug("Expiry sweep found nothing to expire ({} ms)", elapsedMs);
+            }
+        } catch (Exception e) {
+            log.error("Expiry sweep failed", e);
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.foodredistribution.scheduler;
+
+import com.foodredistribution.event.DonationChangedEvent;
+import com.foodredistribution.model.FoodDonation;
+import com.foodredistribution.service.DonationLifecycleService;
+import com.foodredistribution.service.DonationService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Expires each live donation at its expiryDate instead of at the next sweep. Donations due
+ * within the next window are held in a priority queue keyed on expiryDate, and one thread
+ * sleeps until the earliest is due and then moves it to EXPIRED through
+ * {@link DonationLifecycleService}.
+ *
+ * <p>The queue is filled by indexed range queries on {status, expiryDate}: at startup for
+ * everything due before the end of the first window, overdue donations included, and then
+ * every refill interval for the next slice, so each donation is read about once. Creations,
+ * transitions, expiry date edits and deletions update it in between. Entries are replaced
+ * lazily: the id-to-due-time map is authoritative and stale queue entries are skipped.
+ *
+ * <p>Each instance only knows the changes it made itself after its last refill, so
+ * {@link DonationExpirySweeper} still runs, less often, as a backstop.
+ */
+@Component
+public class DonationExpiryTimer {
+
+    private static final Logger log = LoggerFactory.getLogger(DonationExpiryTimer.class);
+
+    private record Due(long expiresAt, String donationId) {
+    }
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private DonationLifecycleService lifecycleService;
+
+    @Value("${donation.expiry.timer-enabled:true}")
+    private boolean enabled;
+
+    @Value("${donation.expiry.timer-window-ms:3600000}")
+    private long windowMillis;
+
+    @Value("${donation.expiry.timer-refill-ms:900000}")
+    private long refillMillis;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final PriorityQueue<Due> queue = new PriorityQueue<>(
+        Comparator.comparingLong(Due::expiresAt).thenComparing(Due::donationId));
+    // donationId -> the due time its queue entry must still carry to count
+    private final Map<String, Long> scheduled = new HashMap<>();
+    // Donations due before this are in the queue; later ones wait for a refill
+    private long loadedUntil;
+    private Thread worker;
+
+    private final AtomicLong expired = new AtomicLong();
+    private final AtomicLong totalLagMillis = new AtomicLong();
+
+    @PostConstruct
+    void checkWindow() {
+        if (refillMillis >= windowMillis) {
+            throw new IllegalStateException("donation.expiry.timer-refill-ms must be shorter than donation.expiry.timer-window-ms");
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        int loaded = refill();
+        worker = Thread.ofPlatform().name("donation-expiry").daemon().start(this::run);
+        log.info("Expiry timer started with {} donation(s) due in the next {} s", loaded, windowMillis / 1000);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    /**
+     * Loads the live donations due before the end of the next window. Moves the window first, so
+     * a donation written while the query runs is queued by {@link #schedule} instead of missed.
+     */
+    @Scheduled(initialDelayString = "${donation.expiry.timer-refill-ms:900000}",
+               fixedDelayString = "${donation.expiry.timer-refill-ms:900000}")
+    public int refill() {
+        if (!enabled) {
+            return 0;
+        }
+        long from;
+        long until = System.currentTimeMillis() + windowMillis;
+        lock.lock();
+        try {
+            from = loadedUntil;
+            loadedUntil = Math.max(loadedUntil, until);
+        } finally {
+            lock.unlock();
+        }
+
+        Criteria due = Criteria.where("status").in(DonationService.LIVE_STATUSES).and("expiryDate").lt(new Date(until));
+        if (from > 0) {
+            due.gte(new Date(from));
+        }
+        Query query = new Query(due);
+        query.fields().include("expiryDate");
+        List<FoodDonation> donations = mongoTemplate.find(query, FoodDonation.class);
+
+        lock.lock();
+        try {
+            for (FoodDonation donation : donations) {
+                // A change made while the query ran has already been applied
+                scheduled.putIfAbsent(donation.getId(), donation.getExpiryDate().getTime());
+                queue.add(new Due(scheduled.get(donation.getId()), donation.getId()));
+            }
+            changed.signal();
+        } finally {
+            lock.unlock();
+        }
+        return donations.size();
+    }
+
+    /**
+     * Queues the donation for expiry at {@code expiryDate}, replacing any earlier due time.
+     * A null date, or one beyond the loaded window, only drops the current entry.
+     */
+    public void schedule(String donationId, Date expiryDate) {
+        lock.lock();
+        try {
+            if (expiryDate == null || expiryDate.getTime() >= loadedUntil) {
+                scheduled.remove(donationId);
+                return;
+            }
+            scheduled.put(donationId, expiryDate.getTime());
+            queue.add(new Due(expiryDate.getTime(), donationId));
+            changed.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void cancel(String donationId) {
+        lock.lock();
+        try {
+            scheduled.remove(donationId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @EventListener
+    public void onDonationChanged(DonationChangedEvent event) {
+        FoodDonation donation = event.getDonation();
+        if (DonationService.LIVE_STATUSES.contains(donation.getStatus())) {
+            schedule(donation.getId(), donation.getExpiryDate());
+        } else {
+            cancel(donation.getId());
+        }
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            List<Due> due;
+            try {
+                due = awaitDue();
+            } catch (InterruptedException e) {
+                return;
+            }
+            for (Due entry : due) {
+                expire(entry);
+            }
+        }
+    }
+
+    // Blocks until at least one entry is due and returns every entry that is
+    private List<Due> awaitDue() throws InterruptedException {
+        lock.lock();
+        try {
+            while (true) {
+                Due head = queue.peek();
+                if (head == null) {
+                    changed.await();
+                    continue;
+                }
+                if (!Long.valueOf(head.expiresAt()).equals(scheduled.get(head.donationId()))) {
+                    queue.poll();
+                    continue;
+                }
+                long waitMillis = head.expiresAt() - System.currentTimeMillis();
+                if (waitMillis > 0) {
+                    changed.await(waitMillis, TimeUnit.MILLISECONDS);
+                    continue;
+                }
+                List<Due> due = new ArrayList<>();
+                long now = System.currentTimeMillis();
+                while ((head = queue.peek()) != null && head.expiresAt() <= now) {
+                    queue.poll();
+                    if (scheduled.remove(head.donationId(), head.expiresAt())) {
+                        due.add(head);
+                    }
+                }
+                return due;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void expire(Due entry) {
+        try {
+            // Guarded on the stored date so an extension made elsewhere is respected
+            lifecycleService.transition(entry.donationId(), "EXPIRED", new Update(),
+                Criteria.where("expiryDate").lte(new Date()), "Expiry date was moved");
+            expired.incrementAndGet();
+            totalLagMillis.addAndGet(Math.max(0, System.currentTimeMillis() - entry.expiresAt()));
+        } catch (RuntimeException e) {
+            // Already expired, cancelled, donated or deleted, or a new date: nothing to do
+            log.debug("Did not expire donation {}: {}", entry.donationId(), e.getMessage());
+        }
+    }
+
+    public int getScheduled() {
+        lock.lock();
+        try {
+            return scheduled.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getExpired() {
+        return expired.get();
+    }
+
+    public long getTotalLagMillis() {
+        return totalLagMillis.get();
+    }
+}
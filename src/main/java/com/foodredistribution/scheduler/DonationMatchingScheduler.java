@@ -0,0 +1,42 @@
+package com.foodredistribution.scheduler;
+
+import com.foodredistribution.service.DonationMatchingService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically offers soon-expiring donations to nearby organizations. Each cycle is bounded
+ * by donation.matching.max-donations-per-cycle and donation.matching.max-cycle-ms.
+ */
+@Component
+@ConditionalOnProperty(name = "donation.matching.enabled", havingValue = "true", matchIfMissing = true)
+public class DonationMatchingScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(DonationMatchingScheduler.class);
+
+    @Autowired
+    private DonationMatchingService matchingService;
+
+    @Scheduled(initialDelayString = "${donation.matching.interval-ms:300000}",
+               fixedDelayString = "${donation.matching.interval-ms:300000}")
+    public void match() {
+        try {
+            DonationMatchingService.CycleResult result = matchingService.runCycle();
+            if (result == null) {
+                log.debug("Matching cycle skipped, the previous one is still running");
+            } else if (result.donations() > 0) {
+                log.info("Matching cycle scored {} donation(s), created {} request(s), {} without a match, in {} ms{}",
+                        result.donations(), result.requests(), result.unmatched(), result.elapsedMs(),
+                        result.truncated() ? "; budget reached, the rest carry over" : "");
+            } else {
+                log.debug("Matching cycle found nothing to match ({} ms)", result.elapsedMs());
+            }
+        } catch (Exception e) {
+            log.error("Matching cycle failed", e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.foodredistribution.security;
+
+import com.foodredistribution.model.Admin;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts cached principals whenever an {@link Admin} document is saved or deleted.
+ */
+@Component
+public class AdminCacheInvalidationListener extends AbstractMongoEventListener<Admin> {
+
+    private final CachingUserDetailsService userDetailsService;
+
+    public AdminCacheInvalidationListener(CachingUserDetailsService userDetailsService) {
+        this.userDetailsService = userDetailsService;
+    }
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<Admin> event) {
+        // The username itself may have changed; admins are few, so drop everything
+        userDetailsService.evictAll();
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<Admin> event) {
+        // Delete events only carry the filter, not the username
+        userDetailsService.evictAll();
+    }
+}
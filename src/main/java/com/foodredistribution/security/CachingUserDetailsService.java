@@ -0,0 +1,69 @@
+package com.foodredistribution.security;
+
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Read-through cache in front of a database-backed {@link UserDetailsService}. Entries live
+ * for a fixed TTL and are evicted early when the underlying account changes. Callers get a
+ * fresh copy each time, so credential erasure on one authentication cannot leak into the cache.
+ */
+public class CachingUserDetailsService implements UserDetailsService {
+
+    private final UserDetailsService delegate;
+    private final long ttlMillis;
+    private final int maxSize;
+    private final Map<String, CachedUser> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CachingUserDetailsService(UserDetailsService delegate, long ttlMillis, int maxSize) {
+        this.delegate = delegate;
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        long now = System.currentTimeMillis();
+        CachedUser cached = entries.get(username);
+        if (cached != null && cached.expiresAt > now) {
+            hits.increment();
+            return User.withUserDetails(cached.user).build();
+        }
+
+        misses.increment();
+        UserDetails user = delegate.loadUserByUsername(username);
+        if (ttlMillis > 0) {
+            if (entries.size() >= maxSize) {
+                entries.values().removeIf(entry -> entry.expiresAt <= now);
+                if (entries.size() >= maxSize) {
+                    entries.clear();
+                }
+            }
+            entries.put(username, new CachedUser(User.withUserDetails(user).build(), now + ttlMillis));
+        }
+        return user;
+    }
+
+    public void evict(String username) {
+        entries.remove(username);
+    }
+
+    public void evictAll() {
+        entries.clear();
+    }
+
+    public long getHits() { return hits.sum(); }
+    public long getMisses() { return misses.sum(); }
+    public int size() { return entries.size(); }
+
+    private record CachedUser(UserDetails user, long expiresAt) {
+    }
+}
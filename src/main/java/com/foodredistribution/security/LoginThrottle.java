@@ -0,0 +1,93 @@
+package com.foodredistribution.security;
+
+import com.foodredistribution.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-window login throttling, checked before any password hashing happens: a cap on
+ * attempts per client address and a cap on consecutive failures per account.
+ */
+@Component
+public class LoginThrottle {
+
+    private final int maxAttemptsPerIp;
+    private final long ipWindowMillis;
+    private final int maxFailuresPerAccount;
+    private final long accountWindowMillis;
+
+    private final Map<String, Window> attemptsByIp = new ConcurrentHashMap<>();
+    private final Map<String, Window> failuresByAccount = new ConcurrentHashMap<>();
+    private final LongAdder throttled = new LongAdder();
+
+    public LoginThrottle(@Value("${security.login.max-attempts-per-ip:30}") int maxAttemptsPerIp,
+                         @Value("${security.login.ip-window-ms:60000}") long ipWindowMillis,
+                         @Value("${security.login.max-failures-per-account:10}") int maxFailuresPerAccount,
+                         @Value("${security.login.account-window-ms:900000}") long accountWindowMillis) {
+        this.maxAttemptsPerIp = maxAttemptsPerIp;
+        this.ipWindowMillis = ipWindowMillis;
+        this.maxFailuresPerAccount = maxFailuresPerAccount;
+        this.accountWindowMillis = accountWindowMillis;
+    }
+
+    /**
+     * Counts an attempt from {@code clientIp} and rejects it if either limit is exhausted.
+     */
+    public void checkAttempt(String clientIp, String account) {
+        long now = System.currentTimeMillis();
+        Window ipWindow = attemptsByIp.compute(clientIp, (ip, w) ->
+                w == null || w.isOver(now, ipWindowMillis) ? new Window(now, 1) : new Window(w.start, w.count + 1));
+        if (ipWindow.count > maxAttemptsPerIp) {
+            throttled.increment();
+            throw new TooManyRequestsException("Too many login attempts, please retry later",
+                    ipWindow.secondsLeft(now, ipWindowMillis));
+        }
+
+        Window accountWindow = failuresByAccount.get(key(account));
+        if (accountWindow != null && !accountWindow.isOver(now, accountWindowMillis)
+                && accountWindow.count >= maxFailuresPerAccount) {
+            throttled.increment();
+            throw new TooManyRequestsException("Too many failed logins for this account, please retry later",
+                    accountWindow.secondsLeft(now, accountWindowMillis));
+        }
+    }
+
+    public void recordFailure(String account) {
+        long now = System.currentTimeMillis();
+        failuresByAccount.compute(key(account), (a, w) ->
+                w == null || w.isOver(now, accountWindowMillis) ? new Window(now, 1) : new Window(w.start, w.count + 1));
+    }
+
+    public void recordSuccess(String account) {
+        failuresByAccount.remove(key(account));
+    }
+
+    public long getThrottled() { return throttled.sum(); }
+
+    @Scheduled(fixedRate = 60000)
+    public void purgeExpiredWindows() {
+        long now = System.currentTimeMillis();
+        attemptsByIp.values().removeIf(w -> w.isOver(now, ipWindowMillis));
+        failuresByAccount.values().removeIf(w -> w.isOver(now, accountWindowMillis));
+    }
+
+    private static String key(String account) {
+        return account == null ? "" : account.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Window(long start, int count) {
+        boolean isOver(long now, long length) {
+            return now - start >= length;
+        }
+
+        long secondsLeft(long now, long length) {
+            return Math.max(1, (start + length - now + 999) / 1000);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.foodredistribution.security;
+
+import com.foodredistribution.exception.TooManyRequestsException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs BCrypt hashing on a small dedicated pool with a bounded queue so a login burst can
+ * only use that pool's CPU. When the queue is full callers are turned away immediately
+ * with a 429 instead of piling up on request threads.
+ *
+ * <p>A hash that has started always runs to completion, since BCrypt cannot be interrupted, so
+ * the caller waits for it. What is bounded is the time spent queued: a task that waited
+ * longer than the timeout is dropped without hashing when it reaches a worker, so under
+ * overload the backlog drains instead of being hashed for callers that gave up.
+ */
+@Service
+public class PasswordVerificationService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long maxQueueWaitNanos;
+
+    private final LongAdder hashes = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final AtomicLong totalHashNanos = new AtomicLong();
+    private final AtomicLong maxHashNanos = new AtomicLong();
+
+    public PasswordVerificationService(PasswordEncoder passwordEncoder,
+                                       @Value("${security.password-hashing.threads:0}") int threads,
+                                       @Value("${security.password-hashing.queue-capacity:100}") int queueCapacity,
+                                       @Value("${security.password-hashing.timeout-ms:5000}") long timeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.maxQueueWaitNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + counter.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public String encode(String rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public int getPoolSize() { return executor.getPoolSize(); }
+    public int getActiveCount() { return executor.getActiveCount(); }
+    public int getQueueDepth() { return executor.getQueue().size(); }
+    public long getHashes() { return hashes.sum(); }
+    public long getTotalHashNanos() { return totalHashNanos.get(); }
+    public long getRejected() { return rejected.sum(); }
+
+    public Map<String, Object> getStats() {
+        long count = getHashes();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("poolSize", getPoolSize());
+        stats.put("active", getActiveCount());
+        stats.put("queueDepth", getQueueDepth());
+        stats.put("queueRemaining", executor.getQueue().remainingCapacity());
+        stats.put("hashes", count);
+        stats.put("rejected", getRejected());
+        stats.put("avgHashMillis", count == 0 ? 0.0 : getTotalHashNanos() / 1_000_000.0 / count);
+        stats.put("maxHashMillis", maxHashNanos.get() / 1_000_000.0);
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T run(Callable<T> hashing) {
+        long submitted = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                if (System.nanoTime() - submitted > maxQueueWaitNanos) {
+                    throw busy();
+                }
+                return timed(hashing);
+            });
+        } catch (RejectedExecutionException e) {
+            throw busy();
+        }
+        try {
+            // Bounded by the queue wait check above plus one hash
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while verifying password", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", cause);
+        }
+    }
+
+    private TooManyRequestsException busy() {
+        rejected.increment();
+        return new TooManyRequestsException("Login service is busy, please retry shortly", 1);
+    }
+
+    private <T> T timed(Callable<T> hashing) throws Exception {
+        long started = System.nanoTime();
+        try {
+            return hashing.call();
+        } finally {
+            long elapsed = System.nanoTime() - started;
+            hashes.increment();
+            totalHashNanos.addAndGet(elapsed);
+            maxHashNanos.accumulateAndGet(elapsed, Math::max);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.foodredistribution.security;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Turns verified JWT claims into the request principal. With
+ * {@code security.principal.source=claims} the principal is built from the token alone and
+ * no database lookup happens; the default {@code database} mode goes through the cached
+ * {@link UserDetailsService} so removed accounts stop authenticating within the cache TTL.
+ */
+@Component
+public class PrincipalResolver {
+
+    private final UserDetailsService userDetailsService;
+    private final boolean fromClaims;
+    private final LongAdder resolvedFromClaims = new LongAdder();
+
+    public PrincipalResolver(UserDetailsService userDetailsService,
+                             @Value("${security.principal.source:database}") String source) {
+        this.userDetailsService = userDetailsService;
+        this.fromClaims = "claims".equalsIgnoreCase(source);
+    }
+
+    public UserDetails resolve(Claims claims) {
+        if (!fromClaims) {
+            return userDetailsService.loadUserByUsername(claims.getSubject());
+        }
+        resolvedFromClaims.increment();
+        String role = claims.get("role", String.class);
+        return User.withUsername(claims.getSubject())
+                .password("")
+                .roles(role != null ? role : "USER")
+                .build();
+    }
+
+    public long getResolvedFromClaims() { return resolvedFromClaims.sum(); }
+}
@@ -0,0 +1,98 @@
+package com.foodredistribution.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded LRU of tokens whose signature has already been verified, keyed by the SHA-256
+ * of the token so raw credentials are never held. Entries stop matching once the token's
+ * own expiry has passed.
+ */
+public class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final Map<String, Claims> entries;
+    // A lock rather than a monitor: virtual threads contending for a monitor pin their carrier
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public VerifiedTokenCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Claims> eldest) {
+                return size() > VerifiedTokenCache.this.maxSize;
+            }
+        };
+    }
+
+    public Claims get(String tokenHash) {
+        Claims claims;
+        lock.lock();
+        try {
+            claims = entries.get(tokenHash);
+            if (claims != null && isExpired(claims)) {
+                entries.remove(tokenHash);
+                claims = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (claims == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return claims;
+    }
+
+    public void put(String tokenHash, Claims claims) {
+        if (maxSize <= 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            entries.put(tokenHash, claims);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getHits() { return hits.sum(); }
+    public long getMisses() { return misses.sum(); }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getMaxSize() { return maxSize; }
+
+    public static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static boolean isExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.before(new Date());
+    }
+}
@@ -1,12 +1,16 @@
 package com.foodredistribution.service;
 
+import com.foodredistribution.dto.CursorPage;
+import com.foodredistribution.dto.DonationFieldSet;
+import com.foodredistribution.dto.PageCursor;
 import com.foodredistribution.model.Admin;
 import com.foodredistribution.model.FoodDonation;
 import com.foodredistribution.model.Organization;
 import com.foodredistribution.repository.AdminRepository;
-import com.foodredistribution.repository.FoodDonationRepository;
 import com.foodredistribution.repository.OrganizationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -20,10 +24,13 @@ public class AdminService {
     private AdminRepository adminRepository;
 
     @Autowired
-    private FoodDonationRepository donationRepository;
+    private OrganizationRepository organizationRepository;
 
     @Autowired
-    private OrganizationRepository organizationRepository;
+    private DonationService donationService;
+
+    @Autowired
+    private DonationLifecycleService lifecycleService;
 
     public Admin createAdmin(Admin admin, PasswordEncoder passwordEncoder) {
         if (adminRepository.existsByUsername(admin.getUsername())) {
@@ -46,49 +53,46 @@ public class AdminService {
         return passwordEncoder.matches(password, admin.getPassword());
     }
 
-    public List<FoodDonation> getAllDonations() {
-        return donationRepository.findAll();
+    public CursorPage<?> getDonationPage(String cursor, Integer limit, DonationFieldSet fields) {
+        return donationService.getDonationPage(cursor, limit, fields);
     }
 
-    public List<Organization> getAllOrganizations() {
-        return organizationRepository.findAll();
+    public CursorPage<Organization> getOrganizationPage(String cursor, Integer limit) {
+        int pageSize = CursorPage.clampLimit(limit);
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+
+        List<Organization> fetched;
+        if (cursor == null || cursor.isEmpty()) {
+            fetched = organizationRepository.findFirstPage(pageRequest);
+        } else {
+            PageCursor position = PageCursor.decode(cursor);
+            fetched = position.getDate() == null
+                    ? organizationRepository.findUndatedPageAfter(position.getId(), pageRequest)
+                    : organizationRepository.findPageAfter(position.getDate(), position.getId(), pageRequest);
+        }
+        fetched.forEach(org -> org.setPassword(null));
+        return CursorPage.of(fetched, pageSize, o -> PageCursor.encode(o.getRegistrationDate(), o.getId()));
     }
 
-    public List<FoodDonation> getPendingRequests() {
-        return donationRepository.findByStatus("RESERVED");
+    public List<?> getPendingRequests(DonationFieldSet fields) {
+        return donationService.getDonationsByStatus("RESERVED", fields);
     }
 
     public FoodDonation approveDonation(String donationId, String adminId, String notes) {
-        FoodDonation donation = donationRepository.findById(donationId)
-                .orElseThrow(() -> new RuntimeException("Donation not found"));
-        
-        if (!"RESERVED".equals(donation.getStatus())) {
-            throw new RuntimeException("Can only approve RESERVED donations");
-        }
-
-        donation.setStatus("DONATED");
-        donation.setProcessedBy(adminId);
-        donation.setProcessedDate(new Date());
-        donation.setNotes(notes);
-        
-        return donationRepository.save(donation);
+        Update update = new Update()
+                .set("processedBy", adminId)
+                .set("processedDate", new Date())
+                .set("notes", notes);
+        return lifecycleService.transition(donationId, "DONATED", update, null, null);
     }
 
     public FoodDonation rejectDonation(String donationId, String adminId, String notes) {
-        FoodDonation donation = donationRepository.findById(donationId)
-                .orElseThrow(() -> new RuntimeException("Donation not found"));
-        
-        if (!"RESERVED".equals(donation.getStatus())) {
-            throw new RuntimeException("Can only reject RESERVED donations");
-        }
-
-        donation.setStatus("REJECTED");
-        donation.setProcessedBy(adminId);
-        donation.setProcessedDate(new Date());
-        donation.setNotes(notes);
-        donation.setRequestedBy(null);
-        donation.setRequestedDate(null);
-        
-        return donationRepository.save(donation);
+        Update update = new Update()
+                .set("processedBy", adminId)
+                .set("processedDate", new Date())
+                .set("notes", notes)
+                .unset("requestedBy")
+                .unset("requestedDate");
+        return lifecycleService.transition(donationId, "REJECTED", update, null, null);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,121 @@
+package com.foodredistribution.service;
+
+import com.foodredistribution.model.FoodDonation;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationExpression;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.DateOperators;
+import org.springframework.data.mongodb.core.aggregation.ProjectionOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Donation totals computed by MongoDB aggregation pipelines, so only one row per group leaves
+ * the database. Quantities are summed per normalized unit (kg, l, items, meals or a unit we
+ * do not convert); donations whose quantity could not be parsed are counted but add nothing.
+ */
+@Service
+public class DonationAnalyticsService {
+
+    // groupBy values that group on a document field
+    private static final Map<String, String> FIELD_GROUPS = Map.of(
+        "foodType", "foodType",
+        "organization", "organizationId",
+        "status", "status");
+
+    // groupBy values that bucket createdDate (UTC); ISO weeks, e.g. 2024-W07
+    private static final Map<String, String> TIME_GROUPS = Map.of(
+        "day", "%Y-%m-%d",
+        "week", "%G-W%V",
+        "month", "%Y-%m");
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    /**
+     * Returns one row per group: {@code key}, {@code count} and {@code totals} (unit to amount).
+     * Time buckets come back in chronological order, other groups largest first.
+     *
+     * @throws IllegalArgumentException for an unknown {@code groupBy}
+     */
+    public List<Map<String, Object>> getTotals(String groupBy, String status, String organizationId,
+                                               Date from, Date to) {
+        boolean timeBuckets = TIME_GROUPS.containsKey(groupBy);
+        if (!timeBuckets && !FIELD_GROUPS.containsKey(groupBy)) {
+            throw new IllegalArgumentException("Unknown groupBy: " + groupBy
+                + "; expected foodType, organization, status, day, week or month");
+        }
+
+        List<AggregationOperation> stages = new ArrayList<>();
+        Criteria filter = filter(status, organizationId, from, to);
+        if (filter != null) {
+            stages.add(Aggregation.match(filter));
+        }
+
+        ProjectionOperation keyed = Aggregation.project("normalizedQuantity", "normalizedUnit");
+        stages.add(timeBuckets
+            ? keyed.and(DateOperators.DateToString.dateOf("createdDate").toString(TIME_GROUPS.get(groupBy))).as("key")
+            : keyed.and(FIELD_GROUPS.get(groupBy)).as("key"));
+        stages.add(Aggregation.group("key", "normalizedUnit")
+            .sum("normalizedQuantity").as("total")
+            .count().as("count"));
+        AggregationExpression unitTotal = context -> new Document("unit", "$_id.normalizedUnit").append("total", "$total");
+        stages.add(Aggregation.group("key")
+            .sum("count").as("count")
+            .push(unitTotal).as("quantities"));
+        stages.add(Aggregation.sort(timeBuckets
+            ? Sort.by(Sort.Direction.ASC, "_id")
+            : Sort.by(Sort.Direction.DESC, "count").and(Sort.by(Sort.Direction.ASC, "_id"))));
+
+        String collection = mongoTemplate.getCollectionName(FoodDonation.class);
+        return mongoTemplate.aggregate(Aggregation.newAggregation(stages), collection, Document.class)
+            .getMappedResults().stream()
+            .map(DonationAnalyticsService::toRow)
+            .toList();
+    }
+
+    private static Criteria filter(String status, String organizationId, Date from, Date to) {
+        List<Criteria> conditions = new ArrayList<>();
+        if (status != null && !status.isEmpty()) {
+            conditions.add(Criteria.where("status").is(status));
+        }
+        if (organizationId != null && !organizationId.isEmpty()) {
+            conditions.add(Criteria.where("organizationId").is(organizationId));
+        }
+        if (from != null || to != null) {
+            Criteria created = Criteria.where("createdDate");
+            if (from != null) created.gte(from);
+            if (to != null) created.lt(to);
+            conditions.add(created);
+        }
+        if (conditions.isEmpty()) {
+            return null;
+        }
+        return conditions.size() == 1 ? conditions.get(0) : new Criteria().andOperator(conditions);
+    }
+
+    private static Map<String, Object> toRow(Document group) {
+        Map<String, Object> totals = new LinkedHashMap<>();
+        for (Document quantity : group.getList("quantities", Document.class)) {
+            String unit = quantity.getString("unit");
+            if (unit != null) {
+                totals.put(unit, ((Number) quantity.get("total")).doubleValue());
+            }
+        }
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("key", group.get("_id"));
+        row.put("count", ((Number) group.get("count")).longValue());
+        row.put("totals", totals);
+        return row;
+    }
+}
@@ -0,0 +1,200 @@
+package com.foodredistribution.service;
+
+import com.foodredistribution.model.DonationCounter;
+import com.foodredistribution.model.FoodDonation;
+import com.foodredistribution.model.Organization;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Donation counts by status, organization and food type, kept in the donation_counters
+ * collection so the admin overview reads a handful of small documents instead of every
+ * donation. Counters are moved with $inc right after each donation write; MongoDB cannot
+ * make the two atomic without a replica-set transaction, so a counter can drift if the
+ * process dies in between, and {@link #reconcile()} recounts periodically to correct it.
+ */
+@Service
+public class DonationCounterService {
+
+    private static final Logger log = LoggerFactory.getLogger(DonationCounterService.class);
+
+    public static final String STATUS = "status";
+    public static final String ORGANIZATION = "organization";
+    public static final String FOOD_TYPE = "foodType";
+
+    // dimension -> donation field it counts
+    private static final Map<String, String> DIMENSION_FIELDS = Map.of(
+        STATUS, "status",
+        ORGANIZATION, "organizationId",
+        FOOD_TYPE, "foodType");
+
+    private static final int TOP_ORGANIZATIONS = 10;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    // counter id -> gap between the recount and the counter seen by the previous reconciliation;
+    // only used by the reconciler's scheduled runs, which never overlap
+    private final Map<String, Long> previousGaps = new HashMap<>();
+
+    public void recordCreated(FoodDonation donation) {
+        Map<CounterKey, Long> deltas = new HashMap<>();
+        add(deltas, STATUS, donation.getStatus(), 1);
+        add(deltas, ORGANIZATION, donation.getOrganizationId(), 1);
+        add(deltas, FOOD_TYPE, donation.getFoodType(), 1);
+        apply(deltas);
+    }
+
+    public void recordDeleted(FoodDonation donation) {
+        Map<CounterKey, Long> deltas = new HashMap<>();
+        add(deltas, STATUS, donation.getStatus(), -1);
+        add(deltas, ORGANIZATION, donation.getOrganizationId(), -1);
+        add(deltas, FOOD_TYPE, donation.getFoodType(), -1);
+        apply(deltas);
+    }
+
+    public void recordStatusChange(String from, String to, long count) {
+        Map<CounterKey, Long> deltas = new HashMap<>();
+        add(deltas, STATUS, from, -count);
+        add(deltas, STATUS, to, count);
+        apply(deltas);
+    }
+
+    public void recordFoodTypeChange(String from, String to) {
+        Map<CounterKey, Long> deltas = new HashMap<>();
+        add(deltas, FOOD_TYPE, from, -1);
+        add(deltas, FOOD_TYPE, to, 1);
+        apply(deltas);
+    }
+
+    /**
+     * Totals by status and food type, the largest organizations and the organization count.
+     * Reads only counter documents and collection metadata, however many donations exist.
+     */
+    public Map<String, Object> getOverview() {
+        Map<String, Long> byStatus = new TreeMap<>();
+        DonationLifecycleService.STATUSES.forEach(status -> byStatus.put(status, 0L));
+        Map<String, Long> byFoodType = new TreeMap<>();
+
+        Query query = new Query(Criteria.where("dimension").in(STATUS, FOOD_TYPE));
+        for (DonationCounter counter : mongoTemplate.find(query, DonationCounter.class)) {
+            if (STATUS.equals(counter.getDimension())) {
+                byStatus.put(counter.getKey(), counter.getCount());
+            } else if (counter.getCount() != 0) {
+                byFoodType.put(counter.getKey(), counter.getCount());
+            }
+        }
+
+        Query top = new Query(Criteria.where("dimension").is(ORGANIZATION).and("count").gt(0))
+            .with(Sort.by(Sort.Direction.DESC, "count"))
+            .limit(TOP_ORGANIZATIONS);
+        List<Map<String, Object>> topOrganizations = mongoTemplate.find(top, DonationCounter.class).stream()
+            .map(counter -> Map.<String, Object>of("organizationId", counter.getKey(), "count", counter.getCount()))
+            .toList();
+
+        Map<String, Object> overview = new LinkedHashMap<>();
+        overview.put("totalDonations", byStatus.values().stream().mapToLong(Long::longValue).sum());
+        overview.put("byStatus", byStatus);
+        overview.put("byFoodType", byFoodType);
+        overview.put("topOrganizations", topOrganizations);
+        overview.put("organizations", mongoTemplate.estimatedCount(Organization.class));
+        return overview;
+    }
+
+    /**
+     * Recounts every dimension with an aggregation and corrects the counters that disagree.
+     * A gap seen once may just be a write whose document the recount already sees but whose
+     * $inc has not landed yet; correcting it then would count that write twice. So a counter
+     * is only corrected when the same gap shows up on two runs in a row, and the correction is
+     * itself an $inc by the gap, so increments landing meanwhile are kept.
+     * Returns the number of counters corrected.
+     */
+    public int reconcile() {
+        Map<String, Long> gaps = new HashMap<>();
+        int corrected = 0;
+        for (Map.Entry<String, String> dimension : DIMENSION_FIELDS.entrySet()) {
+            Map<String, Long> observed = new HashMap<>();
+            for (DonationCounter counter : mongoTemplate.find(
+                    new Query(Criteria.where("dimension").is(dimension.getKey())), DonationCounter.class)) {
+                observed.put(counter.getKey(), counter.getCount());
+            }
+
+            Map<String, Long> actual = new HashMap<>();
+            Aggregation countByKey = Aggregation.newAggregation(Aggregation.group(dimension.getValue()).count().as("count"));
+            for (Document group : mongoTemplate.aggregate(countByKey, FoodDonation.class, Document.class)) {
+                Object key = group.get("_id");
+                if (key != null) {
+                    actual.put(key.toString(), ((Number) group.get("count")).longValue());
+                }
+            }
+
+            Set<String> keys = new HashSet<>(observed.keySet());
+            keys.addAll(actual.keySet());
+            Map<CounterKey, Long> corrections = new HashMap<>();
+            for (String key : keys) {
+                long gap = actual.getOrDefault(key, 0L) - observed.getOrDefault(key, 0L);
+                if (gap == 0) {
+                    continue;
+                }
+                String id = DonationCounter.idOf(dimension.getKey(), key);
+                if (Long.valueOf(gap).equals(previousGaps.get(id))) {
+                    log.info("Correcting donation counter {} by {}", id, gap);
+                    corrections.put(new CounterKey(dimension.getKey(), key), gap);
+                    corrected++;
+                } else {
+                    gaps.put(id, gap);
+                }
+            }
+            apply(corrections);
+        }
+        previousGaps.clear();
+        previousGaps.putAll(gaps);
+        return corrected;
+    }
+
+    private record CounterKey(String dimension, String key) {
+    }
+
+    private static void add(Map<CounterKey, Long> deltas, String dimension, String key, long delta) {
+        if (key != null) {
+            deltas.merge(new CounterKey(dimension, key), delta, Long::sum);
+        }
+    }
+
+    private void apply(Map<CounterKey, Long> deltas) {
+        deltas.values().removeIf(delta -> delta == 0);
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, DonationCounter.class);
+            deltas.forEach((counter, delta) -> bulk.upsert(
+                new Query(Criteria.where("_id").is(DonationCounter.idOf(counter.dimension(), counter.key()))),
+                new Update().inc("count", delta)
+                    .setOnInsert("dimension", counter.dimension())
+                    .setOnInsert("key", counter.key())));
+            bulk.execute();
+        } catch (RuntimeException e) {
+            // The donation write already succeeded; the next reconciliation fixes the counters
+            log.warn("Donation counter update failed, leaving it to reconciliation", e);
+        }
+    }
+}
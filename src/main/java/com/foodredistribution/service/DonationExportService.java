@@ -0,0 +1,128 @@
+package com.foodredistribution.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foodredistribution.model.FoodDonation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streams donation history straight from a server-side Mongo cursor to the response,
+ * one document at a time, so the export never holds the collection in memory.
+ */
+@Service
+public class DonationExportService {
+
+    private static final int CURSOR_BATCH_SIZE = 500;
+    private static final int FLUSH_EVERY = 100;
+
+    private static final String[] CSV_COLUMNS = {
+        "id", "organizationId", "donorName", "foodType", "foodName", "quantity", "quantityUnit",
+        "normalizedQuantity", "normalizedUnit", "expiryDate", "pickupAddress", "contactPhone",
+        "requiresRefrigeration", "notes", "status", "createdDate", "requestedBy", "requestedDate",
+        "processedBy", "processedDate"
+    };
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public void writeNdjson(String status, String organizationId, Date from, Date to, OutputStream out) throws IOException {
+        try (Stream<FoodDonation> donations = streamDonations(status, organizationId, from, to)) {
+            Iterator<FoodDonation> it = donations.iterator();
+            int written = 0;
+            while (it.hasNext()) {
+                out.write(objectMapper.writeValueAsBytes(it.next()));
+                out.write('\n');
+                // Flush the first row immediately, then periodically
+                if (++written % FLUSH_EVERY == 1) {
+                    out.flush();
+                }
+            }
+            out.flush();
+        }
+    }
+
+    public void writeCsv(String status, String organizationId, Date from, Date to, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(String.join(",", CSV_COLUMNS));
+        writer.write("\r\n");
+        writer.flush();
+
+        try (Stream<FoodDonation> donations = streamDonations(status, organizationId, from, to)) {
+            Iterator<FoodDonation> it = donations.iterator();
+            int written = 0;
+            while (it.hasNext()) {
+                writeCsvRow(writer, it.next());
+                // Flush the first row immediately, then periodically
+                if (++written % FLUSH_EVERY == 1) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    private Stream<FoodDonation> streamDonations(String status, String organizationId, Date from, Date to) {
+        Query query = new Query();
+        if (status != null && !status.isEmpty()) {
+            query.addCriteria(Criteria.where("status").is(status));
+        }
+        if (organizationId != null && !organizationId.isEmpty()) {
+            query.addCriteria(Criteria.where("organizationId").is(organizationId));
+        }
+        if (from != null || to != null) {
+            Criteria created = Criteria.where("createdDate");
+            if (from != null) created.gte(from);
+            if (to != null) created.lt(to);
+            query.addCriteria(created);
+        }
+        // _id order follows insertion order and never needs an in-memory sort
+        query.with(Sort.by(Sort.Direction.ASC, "_id"));
+        query.cursorBatchSize(CURSOR_BATCH_SIZE);
+        return mongoTemplate.stream(query, FoodDonation.class);
+    }
+
+    private void writeCsvRow(Writer writer, FoodDonation d) throws IOException {
+        Object[] values = {
+            d.getId(), d.getOrganizationId(), d.getDonorName(), d.getFoodType(), d.getFoodName(),
+            d.getQuantity(), d.getQuantityUnit(), d.getNormalizedQuantity(), d.getNormalizedUnit(),
+            d.getExpiryDate(), d.getPickupAddress(), d.getContactPhone(), d.isRequiresRefrigeration(),
+            d.getNotes(), d.getStatus(), d.getCreatedDate(), d.getRequestedBy(), d.getRequestedDate(),
+            d.getProcessedBy(), d.getProcessedDate()
+        };
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvField(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    private static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof Date date ? date.toInstant().toString() : value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
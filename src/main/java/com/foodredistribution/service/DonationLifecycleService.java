@@ -0,0 +1,102 @@
+package com.foodredistribution.service;
+
+import com.foodredistribution.event.DonationChangedEvent;
+import com.foodredistribution.exception.InvalidStatusTransitionException;
+import com.foodredistribution.model.FoodDonation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Single owner of donation status changes. Every transition is a conditional
+ * findAndModify whose filter requires an allowed prior status, so concurrent callers
+ * cannot both win and no read-modify-write round trip is needed.
+ */
+@Service
+public class DonationLifecycleService {
+
+    public static final Set<String> STATUSES =
+        Set.of("AVAILABLE", "RESERVED", "DONATED", "REJECTED", "CANCELLED", "EXPIRED");
+
+    // current status -> statuses it may move to; anything absent is terminal
+    private static final Map<String, Set<String>> TRANSITIONS = Map.of(
+        "AVAILABLE", Set.of("RESERVED", "CANCELLED", "EXPIRED"),
+        "RESERVED", Set.of("DONATED", "REJECTED", "EXPIRED")
+    );
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private DonationCounterService counterService;
+
+    public static List<String> predecessorsOf(String targetStatus) {
+        return TRANSITIONS.entrySet().stream()
+            .filter(e -> e.getValue().contains(targetStatus))
+            .map(Map.Entry::getKey)
+            .sorted()
+            .toList();
+    }
+
+    public FoodDonation transition(String donationId, String targetStatus) {
+        return transition(donationId, targetStatus, new Update(), null, null);
+    }
+
+    /**
+     * Moves a donation to {@code targetStatus} if its current status allows it and the optional
+     * {@code guard} matches, applying {@code changes} in the same write.
+     *
+     * @param guardMessage reported when the status allows the move but the guard did not match
+     * @throws InvalidStatusTransitionException if the donation was not in an allowed state
+     */
+    public FoodDonation transition(String donationId, String targetStatus, Update changes,
+                                   Criteria guard, String guardMessage) {
+        if (!STATUSES.contains(targetStatus)) {
+            throw new IllegalArgumentException("Unknown status: " + targetStatus);
+        }
+        List<String> allowedFrom = predecessorsOf(targetStatus);
+        if (allowedFrom.isEmpty()) {
+            throw new InvalidStatusTransitionException("No donation can move to " + targetStatus);
+        }
+
+        changes.set("status", targetStatus);
+
+        // One conditional write per allowed prior status (at most two), so the status the
+        // donation left is known for the counters
+        for (String from : allowedFrom) {
+            Query query = new Query(Criteria.where("_id").is(donationId).and("status").is(from));
+            if (guard != null) {
+                query.addCriteria(guard);
+            }
+            FoodDonation updated = mongoTemplate.findAndModify(query, changes,
+                FindAndModifyOptions.options().returnNew(true), FoodDonation.class);
+            if (updated != null) {
+                counterService.recordStatusChange(from, targetStatus, 1);
+                eventPublisher.publishEvent(new DonationChangedEvent(targetStatus.toLowerCase(), updated));
+                return updated;
+            }
+        }
+
+        // Lost the race or started from the wrong state; read once to explain why
+        FoodDonation current = mongoTemplate.findById(donationId, FoodDonation.class);
+        if (current == null) {
+            throw new RuntimeException("Donation not found");
+        }
+        if (guardMessage != null && allowedFrom.contains(current.getStatus())) {
+            throw new InvalidStatusTransitionException(guardMessage);
+        }
+        throw new InvalidStatusTransitionException(current.getStatus(), targetStatus);
+    }
+}
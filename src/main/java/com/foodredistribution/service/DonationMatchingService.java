@@ -0,0 +1,306 @@
+package com.foodredistribution.service;
+
+import com.foodredistribution.geo.GeoGrid;
+import com.foodredistribution.model.DonationRequest;
+import com.foodredistribution.model.FoodDonation;
+import com.foodredistribution.model.Organization;
+import jakarta.annotation.PostConstruct;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Offers AVAILABLE donations that expire soon to nearby organizations before they go to waste.
+ * Each cycle walks the donations expiring within the horizon, soonest first, that have not been
+ * matched recently; scores the organizations within the radius with {@link MatchScorer}; and
+ * writes DonationRequest records for the best few: PROPOSED for the organization to accept or
+ * decline, or PENDING for the admins directly when the mode is "request".
+ *
+ * <p>Work is bounded per cycle by a donation count and a time budget and done in batches: one
+ * query for the donations, one for the requests they already have, one insert and one update
+ * per batch. Organizations and their acceptance rates are loaded once per cycle and searched
+ * in memory. Donations left over when the budget runs out are picked up by the next cycle.
+ */
+@Service
+public class DonationMatchingService {
+
+    public static final String SOURCE = "MATCHING";
+    public static final String MODE_PROPOSE = "propose";
+    public static final String MODE_REQUEST = "request";
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Value("${donation.matching.mode:propose}")
+    private String mode;
+
+    @Value("${donation.matching.horizon-hours:48}")
+    private double horizonHours;
+
+    @Value("${donation.matching.radius-km:25}")
+    private double radiusKm;
+
+    @Value("${donation.matching.max-candidates:3}")
+    private int maxCandidates;
+
+    @Value("${donation.matching.min-score:0.3}")
+    private double minScore;
+
+    @Value("${donation.matching.batch-size:500}")
+    private int batchSize;
+
+    @Value("${donation.matching.max-donations-per-cycle:20000}")
+    private int maxDonationsPerCycle;
+
+    @Value("${donation.matching.max-cycle-ms:30000}")
+    private long maxCycleMillis;
+
+    @Value("${donation.matching.rematch-after-ms:21600000}")
+    private long rematchAfterMillis;
+
+    // Held for the whole cycle; not a monitor, so a virtual thread waiting on Mongo stays unpinned
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final AtomicLong cycles = new AtomicLong();
+    private final AtomicLong totalCycleNanos = new AtomicLong();
+    private final AtomicLong truncatedCycles = new AtomicLong();
+    private final AtomicLong donationsScanned = new AtomicLong();
+    private final AtomicLong donationsUnmatched = new AtomicLong();
+    private final AtomicLong requestsCreated = new AtomicLong();
+
+    private record Receiver(String id, Boolean refrigeratedStorage) {
+    }
+
+    private record Match(String organizationId, double score) {
+    }
+
+    public record CycleResult(int donations, int unmatched, int requests, boolean truncated, long elapsedMs) {
+    }
+
+    @PostConstruct
+    void checkMode() {
+        if (!MODE_PROPOSE.equals(mode) && !MODE_REQUEST.equals(mode)) {
+            throw new IllegalStateException("donation.matching.mode must be propose or request, not " + mode);
+        }
+    }
+
+    /**
+     * Runs one matching cycle. Cycles do not overlap: while one is running this returns null
+     * straight away rather than waiting for it.
+     */
+    public CycleResult runCycle() {
+        if (!running.compareAndSet(false, true)) {
+            return null;
+        }
+        try {
+            return matchDue();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private CycleResult matchDue() {
+        long started = System.nanoTime();
+        long deadline = started + maxCycleMillis * 1_000_000;
+        Date now = new Date();
+        Date horizon = new Date(now.getTime() + (long) (horizonHours * 3_600_000));
+        Date rematchBefore = new Date(now.getTime() - rematchAfterMillis);
+
+        GeoGrid<Receiver> receivers = loadReceivers();
+        Map<String, Double> acceptance = loadAcceptanceRates();
+        MatchScorer scorer = new MatchScorer(horizonHours, radiusKm);
+
+        int scanned = 0;
+        int unmatched = 0;
+        int created = 0;
+        boolean truncated = false;
+        while (true) {
+            Query pending = new Query(Criteria.where("status").is("AVAILABLE")
+                    .and("expiryDate").gt(now).lte(horizon)
+                    .orOperator(Criteria.where("matchedDate").exists(false), Criteria.where("matchedDate").lt(rematchBefore)))
+                    .with(Sort.by("expiryDate", "_id"))
+                    .limit(batchSize);
+            pending.fields().include("organizationId", "expiryDate", "location", "requiresRefrigeration");
+            List<FoodDonation> batch = mongoTemplate.find(pending, FoodDonation.class);
+            if (batch.isEmpty()) {
+                break;
+            }
+            if (scanned >= maxDonationsPerCycle || System.nanoTime() > deadline) {
+                truncated = true;
+                break;
+            }
+
+            Map<String, Set<String>> alreadyAsked = existingRequests(batch);
+            List<DonationRequest> requests = new ArrayList<>();
+            for (FoodDonation donation : batch) {
+                List<Match> matches = match(donation, receivers, acceptance, scorer,
+                        alreadyAsked.getOrDefault(donation.getId(), Set.of()), now);
+                if (matches.isEmpty()) {
+                    unmatched++;
+                }
+                for (Match match : matches) {
+                    requests.add(newRequest(donation.getId(), match));
+                }
+            }
+            if (!requests.isEmpty()) {
+                mongoTemplate.insert(requests, DonationRequest.class);
+                created += requests.size();
+            }
+            // Matched or not, leave these alone until the rematch interval has passed
+            List<String> ids = batch.stream().map(FoodDonation::getId).toList();
+            mongoTemplate.updateMulti(new Query(Criteria.where("_id").in(ids)),
+                    new Update().set("matchedDate", now), FoodDonation.class);
+            scanned += batch.size();
+        }
+
+        long elapsedNanos = System.nanoTime() - started;
+        cycles.incrementAndGet();
+        totalCycleNanos.addAndGet(elapsedNanos);
+        donationsScanned.addAndGet(scanned);
+        donationsUnmatched.addAndGet(unmatched);
+        requestsCreated.addAndGet(created);
+        if (truncated) {
+            truncatedCycles.incrementAndGet();
+        }
+        return new CycleResult(scanned, unmatched, created, truncated, elapsedNanos / 1_000_000);
+    }
+
+    private List<Match> match(FoodDonation donation, GeoGrid<Receiver> receivers, Map<String, Double> acceptance,
+                              MatchScorer scorer, Set<String> alreadyAsked, Date now) {
+        if (donation.getLocation() == null) {
+            return List.of();
+        }
+        double hoursToExpiry = (donation.getExpiryDate().getTime() - now.getTime()) / 3_600_000.0;
+        // Lowest score on top, so the heap keeps the best maxCandidates
+        PriorityQueue<Match> best = new PriorityQueue<>(Comparator.comparingDouble(Match::score));
+        for (GeoGrid.Hit<Receiver> hit : receivers.within(donation.getLocation(), radiusKm)) {
+            Receiver receiver = hit.item();
+            if (receiver.id().equals(donation.getOrganizationId()) || alreadyAsked.contains(receiver.id())) {
+                continue;
+            }
+            double score = scorer.score(hoursToExpiry, hit.distanceKm(), donation.isRequiresRefrigeration(),
+                    receiver.refrigeratedStorage(), acceptance.getOrDefault(receiver.id(), MatchScorer.acceptanceRate(0, 0)));
+            if (score < minScore) {
+                continue;
+            }
+            best.add(new Match(receiver.id(), score));
+            if (best.size() > maxCandidates) {
+                best.poll();
+            }
+        }
+        return List.copyOf(best);
+    }
+
+    private DonationRequest newRequest(String donationId, Match match) {
+        DonationRequest request = new DonationRequest(match.organizationId(), donationId);
+        request.setStatus(MODE_PROPOSE.equals(mode) ? DonationRequestService.PROPOSED : "PENDING");
+        request.setSource(SOURCE);
+        request.setScore(Math.round(match.score() * 1000) / 1000.0);
+        return request;
+    }
+
+    // Organizations that can be located, bucketed for radius lookups
+    private GeoGrid<Receiver> loadReceivers() {
+        Query located = new Query(Criteria.where("location").exists(true));
+        located.fields().include("location", "refrigeratedStorage");
+        GeoGrid<Receiver> grid = new GeoGrid<>(radiusKm);
+        for (Organization organization : mongoTemplate.find(located, Organization.class)) {
+            grid.add(new Receiver(organization.getId(), organization.getRefrigeratedStorage()), organization.getLocation());
+        }
+        return grid;
+    }
+
+    /**
+     * Acceptance rate per organization: approved requests against proposals the organization
+     * declined itself. Admin rejections and offers closed because another organization took
+     * the donation say nothing about the organization's willingness and are not counted.
+     */
+    private Map<String, Double> loadAcceptanceRates() {
+        Aggregation countByOutcome = Aggregation.newAggregation(
+                Aggregation.match(new Criteria().orOperator(
+                        Criteria.where("status").is("APPROVED"),
+                        Criteria.where("status").is(DonationRequestService.DECLINED)
+                                .and("processedBy").ne(DonationRequestService.CLOSED_BY_SYSTEM))),
+                Aggregation.group("organizationId", "status").count().as("count"));
+        Map<String, long[]> outcomes = new HashMap<>();
+        for (Document group : mongoTemplate.aggregate(countByOutcome, DonationRequest.class, Document.class)) {
+            Document key = group.get("_id", Document.class);
+            String organizationId = key.getString("organizationId");
+            if (organizationId == null) {
+                continue;
+            }
+            long[] counts = outcomes.computeIfAbsent(organizationId, id -> new long[2]);
+            counts["APPROVED".equals(key.getString("status")) ? 0 : 1] += ((Number) group.get("count")).longValue();
+        }
+        Map<String, Double> rates = new HashMap<>();
+        outcomes.forEach((organizationId, counts) ->
+                rates.put(organizationId, MatchScorer.acceptanceRate(counts[0], counts[1])));
+        return rates;
+    }
+
+    // donationId -> organizations that already have a request for it
+    private Map<String, Set<String>> existingRequests(List<FoodDonation> batch) {
+        Query query = new Query(Criteria.where("donationId").in(batch.stream().map(FoodDonation::getId).toList()));
+        query.fields().include("donationId", "organizationId");
+        Map<String, Set<String>> asked = new HashMap<>();
+        for (DonationRequest request : mongoTemplate.find(query, DonationRequest.class)) {
+            asked.computeIfAbsent(request.getDonationId(), id -> new HashSet<>()).add(request.getOrganizationId());
+        }
+        return asked;
+    }
+
+    public long getCycles() {
+        return cycles.get();
+    }
+
+    public long getTotalCycleNanos() {
+        return totalCycleNanos.get();
+    }
+
+    public long getTruncatedCycles() {
+        return truncatedCycles.get();
+    }
+
+    public long getDonationsScanned() {
+        return donationsScanned.get();
+    }
+
+    public long getDonationsUnmatched() {
+        return donationsUnmatched.get();
+    }
+
+    public long getRequestsCreated() {
+        return requestsCreated.get();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("mode", mode);
+        stats.put("cycles", getCycles());
+        stats.put("truncatedCycles", getTruncatedCycles());
+        stats.put("donationsScanned", getDonationsScanned());
+        stats.put("donationsUnmatched", getDonationsUnmatched());
+        stats.put("requestsCreated", getRequestsCreated());
+        return stats;
+    }
+}
@@ -1,8 +1,19 @@
 package com.foodredistribution.service;
 
+import com.foodredistribution.event.DonationRequestStatusChangedEvent;
+import com.foodredistribution.exception.InvalidStatusTransitionException;
+import com.foodredistribution.exception.RequestNotFoundException;
 import com.foodredistribution.model.DonationRequest;
+import com.foodredistribution.model.FoodDonation;
 import com.foodredistribution.repository.DonationRequestRepository;
+import com.mongodb.client.result.UpdateResult;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 import java.util.Date;
 import java.util.List;
@@ -10,9 +21,25 @@ import java.util.List;
 @Service
 public class DonationRequestService {
 
+    // Statuses of proposals made by the matching engine, before and after the organization answers
+    public static final String PROPOSED = "PROPOSED";
+    public static final String DECLINED = "DECLINED";
+    // processedBy of requests closed because their donation was reserved through another one,
+    // as opposed to proposals the organization itself declined
+    public static final String CLOSED_BY_SYSTEM = "SYSTEM";
+
     @Autowired
     private DonationRequestRepository donationRequestRepository;
 
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private DonationLifecycleService lifecycleService;
+
     public DonationRequest createRequest(DonationRequest request) {
         return donationRequestRepository.save(request);
     }
@@ -21,34 +48,147 @@ public class DonationRequestService {
         return donationRequestRepository.findByOrganizationId(userId);
     }
 
+    /**
+     * Acknowledges a decision the organization's page has displayed. Sets only the flag, so a
+     * decision made meanwhile is not overwritten.
+     */
     public void markNotificationAsShown(String requestId) {
-        DonationRequest request = donationRequestRepository.findById(requestId)
-                .orElseThrow(() -> new RuntimeException("Request not found"));
-        request.setNotificationShown(true);
-        donationRequestRepository.save(request);
+        UpdateResult result = mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(requestId)),
+                new Update().set("notificationShown", true), DonationRequest.class);
+        if (result.getMatchedCount() == 0) {
+            throw new RequestNotFoundException(requestId);
+        }
     }
 
     public List<DonationRequest> getPendingRequests() {
         return donationRequestRepository.findByStatus("PENDING");
     }
 
+    /**
+     * Approves a PENDING request. A request from the matching engine first reserves its
+     * donation for the organization, unless accepting the proposal already did.
+     *
+     * @throws RequestNotFoundException         if there is no such request
+     * @throws InvalidStatusTransitionException if it is not PENDING, e.g. an unanswered proposal,
+     *                                          or its donation went to someone else
+     */
     public DonationRequest approveRequest(String requestId, String adminId, String notes) {
         DonationRequest request = donationRequestRepository.findById(requestId)
-                .orElseThrow(() -> new RuntimeException("Request not found"));
-        request.setStatus("APPROVED");
-        request.setApprovedBy(adminId);
-        request.setApprovalDate(new Date());
-        request.setNotes(notes);
-        return donationRequestRepository.save(request);
+                .orElseThrow(() -> new RequestNotFoundException(requestId));
+        if (DonationMatchingService.SOURCE.equals(request.getSource()) && "PENDING".equals(request.getStatus())) {
+            FoodDonation donation = mongoTemplate.findById(request.getDonationId(), FoodDonation.class);
+            boolean reservedForRequester = donation != null && "RESERVED".equals(donation.getStatus())
+                    && request.getOrganizationId().equals(donation.getRequestedBy());
+            if (!reservedForRequester) {
+                reserveFor(request);
+            }
+        }
+        // A concurrent decision on the same request can still win here; the reservation then
+        // stands for the admins to settle on the donation itself
+        return decide(requestId, "APPROVED", adminId, notes);
     }
 
     public DonationRequest rejectRequest(String requestId, String adminId, String notes) {
-        DonationRequest request = donationRequestRepository.findById(requestId)
-                .orElseThrow(() -> new RuntimeException("Request not found"));
-        request.setStatus("REJECTED");
-        request.setApprovedBy(adminId);
-        request.setApprovalDate(new Date());
-        request.setNotes(notes);
-        return donationRequestRepository.save(request);
+        return decide(requestId, "REJECTED", adminId, notes);
+    }
+
+    /**
+     * The organization takes up a proposal from the matching engine. The donation is reserved
+     * for it with the same compare-and-set as a direct request, so of several organizations
+     * offered one donation only the first to accept gets it; the proposal then becomes an
+     * ordinary PENDING request for the admins and the other offers are closed.
+     *
+     * @throws InvalidStatusTransitionException if the proposal was already answered or the
+     *                                          donation is no longer available
+     */
+    public DonationRequest acceptProposal(String requestId) {
+        DonationRequest proposal = donationRequestRepository.findById(requestId)
+                .orElseThrow(() -> new RequestNotFoundException(requestId));
+        if (!PROPOSED.equals(proposal.getStatus())) {
+            throw new InvalidStatusTransitionException("Request is " + proposal.getStatus() + ", not a proposal awaiting an answer");
+        }
+        reserveFor(proposal);
+        // Only a simultaneous decline by the same organization gets here first; the
+        // reservation then stands for the admins to settle on the donation itself
+        return answerProposal(requestId, new Update().set("status", "PENDING").set("requestDate", new Date()));
+    }
+
+    public DonationRequest declineProposal(String requestId) {
+        DonationRequest proposal = donationRequestRepository.findById(requestId)
+                .orElseThrow(() -> new RequestNotFoundException(requestId));
+        return answerProposal(requestId, new Update()
+                .set("status", DECLINED)
+                .set("processedBy", proposal.getOrganizationId())
+                .set("processedDate", new Date()));
+    }
+
+    /**
+     * Reserves the request's donation for its organization and closes every other open
+     * request for that donation.
+     *
+     * @throws InvalidStatusTransitionException if the donation is no longer AVAILABLE
+     */
+    private void reserveFor(DonationRequest request) {
+        String donationId = request.getDonationId();
+        if (!mongoTemplate.exists(new Query(Criteria.where("_id").is(donationId)), FoodDonation.class)) {
+            throw new InvalidStatusTransitionException("The donation is no longer available");
+        }
+        Update reservation = new Update()
+                .set("requestedBy", request.getOrganizationId())
+                .set("requestedDate", new Date());
+        try {
+            lifecycleService.transition(donationId, "RESERVED", reservation, null, null);
+        } catch (InvalidStatusTransitionException e) {
+            throw new InvalidStatusTransitionException("The donation is no longer available");
+        }
+        mongoTemplate.updateMulti(new Query(Criteria.where("donationId").is(donationId)
+                        .and("_id").ne(request.getId())
+                        .and("status").in(PROPOSED, "PENDING")),
+                new Update()
+                        .set("status", DECLINED)
+                        .set("processedBy", CLOSED_BY_SYSTEM)
+                        .set("processedDate", new Date())
+                        .set("notes", "The donation was reserved for another organization"),
+                DonationRequest.class);
+    }
+
+    private DonationRequest answerProposal(String requestId, Update update) {
+        DonationRequest request = mongoTemplate.findAndModify(
+                new Query(Criteria.where("_id").is(requestId).and("status").is(PROPOSED)), update,
+                FindAndModifyOptions.options().returnNew(true), DonationRequest.class);
+        if (request == null) {
+            DonationRequest current = donationRequestRepository.findById(requestId)
+                    .orElseThrow(() -> new RequestNotFoundException(requestId));
+            throw new InvalidStatusTransitionException("Request is " + current.getStatus() + ", not a proposal awaiting an answer");
+        }
+        return request;
+    }
+
+    /**
+     * Decisions the organization has not been shown yet, oldest first.
+     */
+    public List<DonationRequest> getUndeliveredDecisions(String organizationId) {
+        return donationRequestRepository.findByOrganizationIdAndNotificationShownFalseAndStatusIn(
+                organizationId, List.of("APPROVED", "REJECTED"));
+    }
+
+    private DonationRequest decide(String requestId, String status, String adminId, String notes) {
+        Update update = new Update()
+                .set("status", status)
+                .set("approvedBy", adminId)
+                .set("approvalDate", new Date())
+                .set("notes", notes)
+                .set("notificationShown", false);
+        // Only PENDING requests are the admins' to decide; proposals wait for the organization
+        DonationRequest request = mongoTemplate.findAndModify(
+                new Query(Criteria.where("_id").is(requestId).and("status").is("PENDING")), update,
+                FindAndModifyOptions.options().returnNew(true), DonationRequest.class);
+        if (request == null) {
+            DonationRequest current = donationRequestRepository.findById(requestId)
+                    .orElseThrow(() -> new RequestNotFoundException(requestId));
+            throw new InvalidStatusTransitionException("Request is " + current.getStatus() + " and cannot be " + status);
+        }
+        eventPublisher.publishEvent(new DonationRequestStatusChangedEvent(request));
+        return request;
     }
 } 
\ No newline at end of file
@@ -1,29 +1,111 @@
 package com.foodredistribution.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foodredistribution.dto.CursorPage;
+import com.foodredistribution.dto.DonationFieldSet;
+import com.foodredistribution.dto.OrganizationProfile;
+import com.foodredistribution.dto.PageCursor;
+import com.foodredistribution.event.DonationChangedEvent;
+import com.foodredistribution.event.DonationsExpiredEvent;
+import com.foodredistribution.geo.Geocoder;
 import com.foodredistribution.model.FoodDonation;
 import com.foodredistribution.repository.FoodDonationRepository;
+import com.foodredistribution.scheduler.DonationExpiryTimer;
+import org.bson.Document;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
 public class DonationService {
     
+    // Statuses a donation can still expire out of
+    public static final List<String> LIVE_STATUSES = DonationLifecycleService.predecessorsOf("EXPIRED");
+    
+    private static final String COLLECTION = "food_donations";
+    
+    private static final int DEFAULT_BROWSE_LIMIT = 100;
+    private static final int MAX_BROWSE_LIMIT = 500;
+    private static final double DEFAULT_NEARBY_RADIUS_KM = 10;
+    private static final double MAX_NEARBY_RADIUS_KM = 500;
+    
     @Autowired
     private FoodDonationRepository foodDonationRepository;
     
+    @Autowired
+    private MongoTemplate mongoTemplate;
+    
+    @Autowired
+    private DonationLifecycleService lifecycleService;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private DonationCounterService counterService;
+    
+    @Autowired
+    private OrganizationService organizationService;
+    
+    @Autowired
+    private Geocoder geocoder;
+    
+    @Autowired
+    private DonationExpiryTimer expiryTimer;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
     public FoodDonation createDonation(FoodDonation donation) {
         validateDonation(donation);
+        QuantityNormalizer.Normalized normalized = normalizeQuantity(donation.getQuantity(), donation.getQuantityUnit());
+        donation.setNormalizedQuantity(normalized.amount());
+        donation.setNormalizedUnit(normalized.unit());
+        donation.setLocation(geocoder.geocode(donation.getPickupAddress()));
         donation.setStatus("AVAILABLE");
         donation.setCreatedDate(new Date());
-        return foodDonationRepository.save(donation);
+        FoodDonation saved = foodDonationRepository.save(donation);
+        counterService.recordCreated(saved);
+        eventPublisher.publishEvent(new DonationChangedEvent("created", saved));
+        return saved;
     }
     
-    public List<FoodDonation> getAllDonations() {
-        return foodDonationRepository.findAll();
+    public CursorPage<?> getDonationPage(String cursor, Integer limit, DonationFieldSet fields) {
+        int pageSize = CursorPage.clampLimit(limit);
+        // Keyset pagination, newest first; documents without a createdDate sort after all dated ones
+        Query query = new Query();
+        if (cursor != null && !cursor.isEmpty()) {
+            PageCursor position = PageCursor.decode(cursor);
+            if (position.getDate() == null) {
+                query.addCriteria(Criteria.where("createdDate").is(null).and("_id").lt(position.getId()));
+            } else {
+                query.addCriteria(new Criteria().orOperator(
+                    Criteria.where("createdDate").lt(position.getDate()),
+                    Criteria.where("createdDate").is(position.getDate()).and("_id").lt(position.getId()),
+                    Criteria.where("createdDate").is(null)));
+            }
+        }
+        // Fetch one extra row to learn whether another page exists
+        query.with(Sort.by(Sort.Direction.DESC, "createdDate", "_id")).limit(pageSize + 1);
+        
+        List<FoodDonation> fetched = mongoTemplate.find(fields.applyTo(query, "createdDate"), FoodDonation.class);
+        CursorPage<FoodDonation> page = CursorPage.of(fetched, pageSize,
+            donation -> PageCursor.encode(donation.getCreatedDate(), donation.getId()));
+        return fields.isFull() ? page : new CursorPage<>(render(page.getItems(), fields), page.getNextCursor());
     }
     
     public FoodDonation getDonationById(String id) {
@@ -31,102 +113,223 @@ public class DonationService {
             .orElseThrow(() -> new RuntimeException("Donation not found"));
     }
     
-    public List<FoodDonation> getDonationsByOrganization(String organizationId) {
-        return foodDonationRepository.findByOrganizationId(organizationId);
+    public List<?> getDonationsByOrganization(String organizationId, DonationFieldSet fields) {
+        Query query = new Query(Criteria.where("organizationId").is(organizationId))
+            .with(Sort.by(Sort.Direction.DESC, "createdDate"));
+        return find(query, fields);
     }
     
-    public List<FoodDonation> getDonationsByStatus(String status) {
-        return foodDonationRepository.findByStatus(status);
+    public List<?> getDonationsByStatus(String status, DonationFieldSet fields) {
+        return find(new Query(Criteria.where("status").is(status)), fields);
     }
     
     public FoodDonation updateDonation(String id, FoodDonation donation) {
-        FoodDonation existing = getDonationById(id);
-        
-        // Update fields
-        if (donation.getFoodType() != null) existing.setFoodType(donation.getFoodType());
-        if (donation.getDonorName() != null) existing.setDonorName(donation.getDonorName());
-        if (donation.getQuantity() != null) existing.setQuantity(donation.getQuantity());
-        if (donation.getExpiryDate() != null) existing.setExpiryDate(donation.getExpiryDate());
+        // Only $set the supplied fields so a concurrent status change is never overwritten
+        Update update = new Update();
+        if (donation.getFoodType() != null) update.set("foodType", donation.getFoodType());
+        if (donation.getDonorName() != null) update.set("donorName", donation.getDonorName());
+        if (donation.getQuantity() != null || donation.getQuantityUnit() != null) {
+            // The normalized amount depends on both, so fill in whichever one was not sent
+            FoodDonation current = donation.getQuantity() == null || donation.getQuantityUnit() == null
+                ? getDonationById(id) : donation;
+            String quantity = donation.getQuantity() != null ? donation.getQuantity() : current.getQuantity();
+            String unit = donation.getQuantityUnit() != null ? donation.getQuantityUnit() : current.getQuantityUnit();
+            QuantityNormalizer.Normalized normalized = normalizeQuantity(quantity, unit);
+            update.set("quantity", quantity)
+                .set("quantityUnit", unit)
+                .set("normalizedQuantity", normalized.amount())
+                .set("normalizedUnit", normalized.unit());
+        }
+        if (donation.getExpiryDate() != null) update.set("expiryDate", donation.getExpiryDate());
         
-        return foodDonationRepository.save(existing);
+        if (update.getUpdateObject().isEmpty()) {
+            return getDonationById(id);
+        }
+        Query byId = new Query(Criteria.where("_id").is(id));
+        FoodDonation updated;
+        if (donation.getFoodType() == null) {
+            updated = mongoTemplate.findAndModify(byId, update,
+                FindAndModifyOptions.options().returnNew(true), FoodDonation.class);
+            if (updated == null) {
+                throw new RuntimeException("Donation not found");
+            }
+        } else {
+            // The food type counters need the value being replaced
+            FoodDonation previous = mongoTemplate.findAndModify(byId, update, FoodDonation.class);
+            if (previous == null) {
+                throw new RuntimeException("Donation not found");
+            }
+            if (!donation.getFoodType().equals(previous.getFoodType())) {
+                counterService.recordFoodTypeChange(previous.getFoodType(), donation.getFoodType());
+            }
+            updated = getDonationById(id);
+        }
+        if (donation.getExpiryDate() != null && LIVE_STATUSES.contains(updated.getStatus())) {
+            expiryTimer.schedule(id, updated.getExpiryDate());
+        }
+        return updated;
     }
     
     public FoodDonation updateDonationStatus(String id, String newStatus) {
-        FoodDonation donation = getDonationById(id);
-        donation.setStatus(newStatus);
-        return foodDonationRepository.save(donation);
+        return lifecycleService.transition(id, newStatus);
     }
     
     public FoodDonation cancelDonation(String id) {
-        FoodDonation donation = getDonationById(id);
-        
-        if (!"AVAILABLE".equals(donation.getStatus())) {
-            throw new RuntimeException("Can only cancel donations that are in AVAILABLE status");
-        }
-        
-        donation.setStatus("CANCELLED");
-        return foodDonationRepository.save(donation);
+        return lifecycleService.transition(id, "CANCELLED");
     }
     
     public void deleteDonation(String id) {
-        FoodDonation donation = getDonationById(id);
-        foodDonationRepository.delete(donation);
+        FoodDonation removed = mongoTemplate.findAndRemove(new Query(Criteria.where("_id").is(id)), FoodDonation.class);
+        if (removed == null) {
+            throw new RuntimeException("Donation not found");
+        }
+        counterService.recordDeleted(removed);
+        expiryTimer.cancel(id);
     }
     
-    public List<FoodDonation> getExpiringDonations(int days) {
+    public List<?> getExpiringDonations(int days, DonationFieldSet fields) {
         Calendar calendar = Calendar.getInstance();
         calendar.add(Calendar.DAY_OF_MONTH, days);
         Date futureDate = calendar.getTime();
         
-        return foodDonationRepository.findByExpiryDateBeforeAndStatus(futureDate, "AVAILABLE");
+        Query query = new Query(Criteria.where("expiryDate").lt(futureDate).and("status").is("AVAILABLE"));
+        return find(query, fields);
     }
     
-    public List<FoodDonation> getExpiredDonations() {
+    public List<?> getExpiredDonations(DonationFieldSet fields) {
         Date today = new Date();
-        return foodDonationRepository.findByExpiryDateBeforeAndStatusNot(today, "EXPIRED");
+        Query query = new Query(Criteria.where("expiryDate").lt(today).and("status").ne("EXPIRED"));
+        return find(query, fields);
     }
     
-    public void checkAndUpdateExpiredDonations() {
-        List<FoodDonation> expiredDonations = getExpiredDonations();
-        
-        for (FoodDonation donation : expiredDonations) {
-            donation.setStatus("EXPIRED");
-            foodDonationRepository.save(donation);
+    /**
+     * Marks every live donation past its expiry date as EXPIRED with one server-side updateMany
+     * per live status, so the status counters know how many left each, and returns the number
+     * of documents changed. {@link DonationExpiryTimer} normally expires donations on time; this
+     * catches any it did not know about.
+     */
+    public long checkAndUpdateExpiredDonations() {
+        Date now = new Date();
+        Update update = new Update().set("status", "EXPIRED");
+        long expired = 0;
+        for (String status : LIVE_STATUSES) {
+            Query query = new Query(Criteria.where("expiryDate").lt(now).and("status").is(status));
+            long changed = mongoTemplate.updateMulti(query, update, FoodDonation.class).getModifiedCount();
+            if (changed > 0) {
+                counterService.recordStatusChange(status, "EXPIRED", changed);
+                expired += changed;
+            }
+        }
+        if (expired > 0) {
+            eventPublisher.publishEvent(new DonationsExpiredEvent(expired));
         }
+        return expired;
     }
 
-    public List<FoodDonation> getAvailableDonationsFromOthers(String organizationId) {
-        // Get all available donations
-        List<FoodDonation> availableDonations = foodDonationRepository.findByStatus("AVAILABLE");
-        
-        // Filter out donations from the requesting organization
-        return availableDonations.stream()
-            .filter(donation -> !donation.getOrganizationId().equals(organizationId))
-            .collect(Collectors.toList());
+    /**
+     * Marketplace browse: other organizations' donations, soonest expiry first. Served by the
+     * {status, expiryDate} index.
+     */
+    public List<?> getAvailableDonationsFromOthers(String organizationId, Integer limit, DonationFieldSet fields) {
+        int pageSize = limit == null || limit <= 0 ? DEFAULT_BROWSE_LIMIT : Math.min(limit, MAX_BROWSE_LIMIT);
+        Query query = new Query(Criteria.where("status").is("AVAILABLE").and("organizationId").ne(organizationId))
+            .with(Sort.by(Sort.Direction.ASC, "expiryDate"))
+            .limit(pageSize);
+        return find(query, fields);
     }
 
-    public FoodDonation requestDonation(String donationId, String requestingOrgId) {
-        FoodDonation donation = getDonationById(donationId);
-        
-        // Verify donation is available
-        if (!"AVAILABLE".equals(donation.getStatus())) {
-            throw new IllegalStateException("This donation is no longer available");
+    /**
+     * Marketplace browse by proximity: other organizations' AVAILABLE donations within
+     * {@code radiusKm} of the requesting organization, nearest first and soonest expiry among
+     * equally near ones. A $geoNear over the location 2dsphere index; each row carries
+     * {@code distanceKm}. Donations whose address could not be geocoded are not included.
+     *
+     * @throws IllegalArgumentException for a bad radius or an organization without a location
+     */
+    public List<Map<String, Object>> getNearbyAvailableDonations(String organizationId, Double radiusKm,
+                                                                 Integer limit, DonationFieldSet fields) {
+        int pageSize = limit == null || limit <= 0 ? DEFAULT_BROWSE_LIMIT : Math.min(limit, MAX_BROWSE_LIMIT);
+        double radius = radiusKm == null ? DEFAULT_NEARBY_RADIUS_KM : radiusKm;
+        if (!(radius > 0 && radius <= MAX_NEARBY_RADIUS_KM)) {
+            throw new IllegalArgumentException("radiusKm must be greater than 0 and at most " + (int) MAX_NEARBY_RADIUS_KM);
+        }
+        OrganizationProfile organization = organizationService.getOrganizationProfile(organizationId);
+        // Organizations registered before geocoding have no stored location yet
+        GeoJsonPoint origin = organization.getLocation() != null
+            ? organization.getLocation() : geocoder.geocode(organization.getAddress());
+        if (origin == null) {
+            throw new IllegalArgumentException("The organization's address could not be located");
         }
         
-        // Verify requesting org is not the donor
-        if (donation.getOrganizationId().equals(requestingOrgId)) {
-            throw new IllegalStateException("Organizations cannot request their own donations");
+        Document geoNear = new Document("near", new Document("type", "Point").append("coordinates", origin.getCoordinates()))
+            .append("key", "location")
+            .append("spherical", true)
+            .append("maxDistance", radius * 1000)
+            .append("distanceField", "distanceKm")
+            .append("distanceMultiplier", 0.001)
+            .append("query", new Document("status", "AVAILABLE")
+                .append("organizationId", new Document("$ne", organizationId)));
+        List<AggregationOperation> stages = new ArrayList<>();
+        stages.add(context -> new Document("$geoNear", geoNear));
+        stages.add(Aggregation.sort(Sort.by(Sort.Direction.ASC, "distanceKm", "expiryDate")));
+        stages.add(Aggregation.limit(pageSize));
+        if (!fields.isFull()) {
+            // _id is kept by $project unless excluded
+            List<String> projected = new ArrayList<>(fields.getFields());
+            projected.remove("id");
+            projected.add("distanceKm");
+            stages.add(Aggregation.project(projected.toArray(String[]::new)));
+        }
+        return mongoTemplate.aggregate(Aggregation.newAggregation(stages), COLLECTION, Document.class)
+            .getMappedResults().stream()
+            .map(document -> {
+                // Rendered like the listings, plus the distance computed by $geoNear
+                Map<String, Object> row = fields.render(mongoTemplate.getConverter().read(FoodDonation.class, document), objectMapper);
+                row.put("distanceKm", document.get("distanceKm"));
+                return row;
+            })
+            .toList();
+    }
+
+    public FoodDonation requestDonation(String donationId, String requestingOrgId) {
+        if (requestingOrgId == null || requestingOrgId.trim().isEmpty()) {
+            throw new IllegalArgumentException("organizationId is required");
         }
         
-        // Update donation status
-        donation.setStatus("RESERVED");
-        donation.setRequestedBy(requestingOrgId);
-        donation.setRequestedDate(new Date());
+        Update update = new Update()
+            .set("requestedBy", requestingOrgId)
+            .set("requestedDate", new Date());
+        // Organizations cannot request their own donations
+        Criteria notOwnDonation = Criteria.where("organizationId").ne(requestingOrgId);
         
-        return foodDonationRepository.save(donation);
+        return lifecycleService.transition(donationId, "RESERVED", update, notOwnDonation,
+            "Organizations cannot request their own donations");
+    }
+
+    /**
+     * Runs a donation listing. The full view returns entities; a partial view is projected by
+     * MongoDB, mapped to entities all the same and rendered as rows holding only the selected
+     * fields, so it reads exactly like the full view with the other fields left out.
+     */
+    private List<?> find(Query query, DonationFieldSet fields) {
+        List<FoodDonation> donations = mongoTemplate.find(fields.applyTo(query), FoodDonation.class);
+        return fields.isFull() ? donations : render(donations, fields);
+    }
+    
+    private List<Map<String, Object>> render(List<FoodDonation> donations, DonationFieldSet fields) {
+        return donations.stream().map(donation -> fields.render(donation, objectMapper)).toList();
+    }
+
+    private static QuantityNormalizer.Normalized normalizeQuantity(String quantity, String unit) {
+        QuantityNormalizer.Normalized normalized = QuantityNormalizer.normalize(quantity, unit);
+        if (normalized == null) {
+            throw new IllegalArgumentException("Quantity must be a number, e.g. 12 or 2.5");
+        }
+        return normalized;
     }
 
-    private void validateDonation(FoodDonation donation) {
+    // Package-private for the JMH benchmarks
+    void validateDonation(FoodDonation donation) {
         if (donation.getDonorName() == null || donation.getDonorName().trim().isEmpty()) {
             throw new IllegalArgumentException("Donor name is required");
         }
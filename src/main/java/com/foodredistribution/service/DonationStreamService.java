@@ -0,0 +1,44 @@
+package com.foodredistribution.service;
+
+import com.foodredistribution.model.DonationRequest;
+import com.foodredistribution.model.FoodDonation;
+import com.foodredistribution.repository.ReactiveDonationRequestRepository;
+import com.foodredistribution.repository.ReactiveFoodDonationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+/**
+ * Read-only listings served straight from reactive MongoDB cursors. Nothing is collected in
+ * memory: each document is emitted as the subscriber asks for it.
+ */
+@Service
+public class DonationStreamService {
+
+    @Autowired
+    private ReactiveFoodDonationRepository reactiveDonationRepository;
+
+    @Autowired
+    private ReactiveDonationRequestRepository reactiveRequestRepository;
+
+    public Flux<FoodDonation> streamAvailableDonations() {
+        return reactiveDonationRepository.findByStatus("AVAILABLE");
+    }
+
+    public Flux<FoodDonation> streamAvailableDonationsFromOthers(String organizationId) {
+        return reactiveDonationRepository.findByStatusAndOrganizationIdNotOrderByExpiryDateAsc("AVAILABLE", organizationId);
+    }
+
+    public Flux<FoodDonation> streamDonationsByOrganization(String organizationId) {
+        return reactiveDonationRepository.findByOrganizationIdOrderByCreatedDateDesc(organizationId);
+    }
+
+    // Donations reserved by an organization and awaiting an admin decision
+    public Flux<FoodDonation> streamReservedDonations() {
+        return reactiveDonationRepository.findByStatus("RESERVED");
+    }
+
+    public Flux<DonationRequest> streamPendingRequests() {
+        return reactiveRequestRepository.findByStatus("PENDING");
+    }
+}
@@ -0,0 +1,65 @@
+package com.foodredistribution.service;
+
+/**
+ * Scores how well a receiving organization fits a donation, in [0, 1]. The score is a
+ * weighted sum of:
+ * <ul>
+ *   <li>urgency (35%): 1 at expiry, falling to 0 at the matching horizon. It is the same for
+ *       every candidate of a donation, so urgent food clears the minimum score with more
+ *       distant receivers;</li>
+ *   <li>proximity (35%): 1 at the pickup address, 0 at the search radius;</li>
+ *   <li>refrigeration (10%): 1 when the donation needs none or the organization has it,
+ *       0.5 when the organization has not said;</li>
+ *   <li>acceptance (20%): the organization's past acceptance rate.</li>
+ * </ul>
+ * An organization that states it has no refrigeration is not a candidate for chilled food.
+ */
+public final class MatchScorer {
+
+    public static final double EXCLUDED = -1;
+
+    private static final double URGENCY_WEIGHT = 0.35;
+    private static final double PROXIMITY_WEIGHT = 0.35;
+    private static final double REFRIGERATION_WEIGHT = 0.10;
+    private static final double ACCEPTANCE_WEIGHT = 0.20;
+
+    private final double horizonHours;
+    private final double radiusKm;
+
+    public MatchScorer(double horizonHours, double radiusKm) {
+        this.horizonHours = horizonHours;
+        this.radiusKm = radiusKm;
+    }
+
+    /**
+     * @param refrigeratedStorage the organization's capability, null when unknown
+     * @param acceptanceRate      in [0, 1], see {@link #acceptanceRate(long, long)}
+     * @return the score, or {@link #EXCLUDED}
+     */
+    public double score(double hoursToExpiry, double distanceKm, boolean requiresRefrigeration,
+                        Boolean refrigeratedStorage, double acceptanceRate) {
+        double refrigeration = 1;
+        if (requiresRefrigeration) {
+            if (Boolean.FALSE.equals(refrigeratedStorage)) {
+                return EXCLUDED;
+            }
+            refrigeration = refrigeratedStorage == null ? 0.5 : 1;
+        }
+        return URGENCY_WEIGHT * clamp(1 - hoursToExpiry / horizonHours)
+                + PROXIMITY_WEIGHT * clamp(1 - distanceKm / radiusKm)
+                + REFRIGERATION_WEIGHT * refrigeration
+                + ACCEPTANCE_WEIGHT * clamp(acceptanceRate);
+    }
+
+    /**
+     * Share of an organization's decided requests that ended with it taking the food, smoothed
+     * towards 0.5 so a newcomer is neither favoured nor shut out.
+     */
+    public static double acceptanceRate(long accepted, long turnedDown) {
+        return (accepted + 1.0) / (accepted + turnedDown + 2.0);
+    }
+
+    private static double clamp(double value) {
+        return Math.max(0, Math.min(1, value));
+    }
+}
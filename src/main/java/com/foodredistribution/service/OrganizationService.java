@@ -1,12 +1,21 @@
 package com.foodredistribution.service;
 
+import com.foodredistribution.cache.TtlCache;
+import com.foodredistribution.dto.OrganizationProfile;
+import com.foodredistribution.event.OrganizationRegisteredEvent;
+import com.foodredistribution.geo.Geocoder;
 import com.foodredistribution.model.Organization;
 import com.foodredistribution.repository.OrganizationRepository;
+import com.foodredistribution.security.LoginThrottle;
+import com.foodredistribution.security.PasswordVerificationService;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -15,7 +24,35 @@ public class OrganizationService {
     @Autowired
     private OrganizationRepository organizationRepository;
     
-    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private PasswordVerificationService passwordVerificationService;
+    
+    @Autowired
+    private LoginThrottle loginThrottle;
+    
+    @Autowired
+    private Geocoder geocoder;
+    
+    @Value("${organization.cache.ttl-ms:60000}")
+    private long cacheTtlMillis;
+    
+    @Value("${organization.cache.max-size:10000}")
+    private int cacheMaxSize;
+    
+    // Read-through caches of password-free snapshots; every write below evicts them
+    private TtlCache<String, OrganizationProfile> profileCache;
+    private TtlCache<String, List<OrganizationProfile>> allProfilesCache;
+    
+    private static final String ALL_PROFILES_KEY = "all";
+    
+    @PostConstruct
+    void initCaches() {
+        profileCache = new TtlCache<>(cacheTtlMillis, cacheMaxSize);
+        allProfilesCache = new TtlCache<>(cacheTtlMillis, 1);
+    }
     
     public Organization registerOrganization(Organization organization) {
         if (organizationRepository.existsByEmail(organization.getEmail())) {
@@ -23,22 +60,30 @@ public class OrganizationService {
         }
         
         // Encode password
-        organization.setPassword(passwordEncoder.encode(organization.getPassword()));
+        organization.setPassword(passwordVerificationService.encode(organization.getPassword()));
         
         // Set registration date
         organization.setRegistrationDate(new Date());
+        organization.setLocation(geocoder.geocode(organization.getAddress()));
         
-        return organizationRepository.save(organization);
+        Organization saved = organizationRepository.save(organization);
+        allProfilesCache.evictAll();
+        eventPublisher.publishEvent(new OrganizationRegisteredEvent(saved));
+        return saved;
     }
     
-    public Optional<Organization> login(String email, String password) {
+    public Optional<Organization> login(String email, String password, String clientIp) {
+        loginThrottle.checkAttempt(clientIp, email);
+        
         Optional<Organization> orgOpt = organizationRepository.findByEmail(email);
         if (orgOpt.isPresent()) {
             Organization org = orgOpt.get();
-            if (passwordEncoder.matches(password, org.getPassword())) {
+            if (passwordVerificationService.matches(password, org.getPassword())) {
+                loginThrottle.recordSuccess(email);
                 return Optional.of(org);
             }
         }
+        loginThrottle.recordFailure(email);
         return Optional.empty();
     }
     
@@ -47,8 +92,22 @@ public class OrganizationService {
             .orElseThrow(() -> new RuntimeException("Organization not found"));
     }
     
-    public List<Organization> getAllOrganizations() {
-        return organizationRepository.findAll();
+    public OrganizationProfile getOrganizationProfile(String id) {
+        return profileCache.get(id, key -> OrganizationProfile.from(getOrganizationById(key)));
+    }
+    
+    public List<OrganizationProfile> getAllOrganizationProfiles() {
+        return allProfilesCache.get(ALL_PROFILES_KEY, key -> organizationRepository.findAll().stream()
+            .map(OrganizationProfile::from)
+            .toList());
+    }
+    
+    public Map<String, Object> getCacheStats() {
+        return profileCache.getStats();
+    }
+    
+    public TtlCache<String, OrganizationProfile> getProfileCache() {
+        return profileCache;
     }
     
     public Organization updateOrganization(String id, Organization updatedOrg) {
@@ -58,15 +117,27 @@ public class OrganizationService {
         if (updatedOrg.getName() != null) existing.setName(updatedOrg.getName());
         if (updatedOrg.getEmail() != null) existing.setEmail(updatedOrg.getEmail());
         if (updatedOrg.getPhone() != null) existing.setPhone(updatedOrg.getPhone());
-        if (updatedOrg.getAddress() != null) existing.setAddress(updatedOrg.getAddress());
+        if (updatedOrg.getAddress() != null) {
+            existing.setAddress(updatedOrg.getAddress());
+            existing.setLocation(geocoder.geocode(updatedOrg.getAddress()));
+        }
         if (updatedOrg.getDescription() != null) existing.setDescription(updatedOrg.getDescription());
         if (updatedOrg.getType() != null) existing.setType(updatedOrg.getType());
+        if (updatedOrg.getRefrigeratedStorage() != null) existing.setRefrigeratedStorage(updatedOrg.getRefrigeratedStorage());
         
-        return organizationRepository.save(existing);
+        Organization saved = organizationRepository.save(existing);
+        evict(id);
+        return saved;
     }
     
     public void deleteOrganization(String id) {
         Organization org = getOrganizationById(id);
         organizationRepository.delete(org);
+        evict(id);
+    }
+    
+    private void evict(String id) {
+        profileCache.evict(id);
+        allProfilesCache.evictAll();
     }
 }
@@ -0,0 +1,80 @@
+package com.foodredistribution.service;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Turns the free-form quantity and unit a donor entered into a number in one of four base
+ * units (kg, l, items, meals) so totals can be summed in the database. Units we do not know
+ * are kept as entered, lower-cased, without conversion.
+ */
+public final class QuantityNormalizer {
+
+    public static final String KILOGRAMS = "kg";
+    public static final String LITRES = "l";
+    public static final String ITEMS = "items";
+    public static final String MEALS = "meals";
+
+    // "12", "2.5", "2,5" or with the unit inline: "10 kg", "500g"
+    private static final Pattern QUANTITY = Pattern.compile("^\\s*(\\d+(?:[.,]\\d+)?)\\s*([\\p{L}]*)\\s*$");
+
+    private static final Map<String, Conversion> CONVERSIONS = new HashMap<>();
+
+    static {
+        register(KILOGRAMS, 1, "kg", "kgs", "kilo", "kilos", "kilogram", "kilograms");
+        register(KILOGRAMS, 0.001, "g", "gr", "gram", "grams");
+        register(KILOGRAMS, 1000, "t", "ton", "tons", "tonne", "tonnes");
+        register(KILOGRAMS, 0.45359237, "lb", "lbs", "pound", "pounds");
+        register(KILOGRAMS, 0.028349523125, "oz", "ounce", "ounces");
+        register(LITRES, 1, "l", "ltr", "ltrs", "litre", "litres", "liter", "liters");
+        register(LITRES, 0.001, "ml", "millilitre", "millilitres", "milliliter", "milliliters");
+        register(LITRES, 3.785411784, "gal", "gallon", "gallons");
+        register(ITEMS, 1, "item", "items", "pc", "pcs", "piece", "pieces", "unit", "units");
+        register(MEALS, 1, "meal", "meals", "serving", "servings", "portion", "portions");
+    }
+
+    private QuantityNormalizer() {
+    }
+
+    public record Normalized(double amount, String unit) {
+    }
+
+    /**
+     * Returns the normalized quantity, or null when {@code quantity} is not a plain
+     * non-negative number (optionally followed by a unit). A unit written inline wins over
+     * {@code quantityUnit}.
+     */
+    public static Normalized normalize(String quantity, String quantityUnit) {
+        if (quantity == null) {
+            return null;
+        }
+        Matcher matcher = QUANTITY.matcher(quantity);
+        if (!matcher.matches()) {
+            return null;
+        }
+        double amount = Double.parseDouble(matcher.group(1).replace(',', '.'));
+        String unit = matcher.group(2).isEmpty() ? quantityUnit : matcher.group(2);
+        if (unit == null || unit.isBlank()) {
+            return null;
+        }
+        unit = unit.trim().toLowerCase(Locale.ROOT);
+
+        Conversion conversion = CONVERSIONS.get(unit);
+        if (conversion == null) {
+            return new Normalized(amount, unit);
+        }
+        return new Normalized(amount * conversion.factor(), conversion.baseUnit());
+    }
+
+    private static void register(String baseUnit, double factor, String... aliases) {
+        for (String alias : aliases) {
+            CONVERSIONS.put(alias, new Conversion(baseUnit, factor));
+        }
+    }
+
+    private record Conversion(String baseUnit, double factor) {
+    }
+}
@@ -1,7 +1,7 @@
 // Load pending requests
 function loadPendingRequests() {
     const token = localStorage.getItem('adminToken');
-    fetch('/api/admin/requests/pending', {
+    fetch('/api/admin/requests/pending?fields=donorName,foodType,foodName,quantity,quantityUnit,requestedDate', {
         headers: {
             'Authorization': `Bearer ${token}`
         }
@@ -13,29 +13,14 @@ function loadPendingRequests() {
 
         if (donations.length === 0) {
             const row = document.createElement('tr');
+            row.className = 'empty-row';
             row.innerHTML = '<td colspan="5">No pending requests found</td>';
             tableBody.appendChild(row);
             return;
         }
 
         donations.forEach(donation => {
-            const row = document.createElement('tr');
-            row.innerHTML = `
-                <td>${donation.donorName || 'Anonymous'}</td>
-                <td>${donation.foodType}</td>
-                <td>${donation.foodName}</td>
-                <td>${donation.quantity} ${donation.quantityUnit}</td>
-                <td>${formatDate(donation.requestedDate)}</td>
-                <td>
-                    <button onclick="approveDonation('${donation.id}')" class="btn btn-success btn-sm btn-action">
-                        <i class="fas fa-check"></i> Approve
-                    </button>
-                    <button onclick="rejectDonation('${donation.id}')" class="btn btn-danger btn-sm btn-action ms-2">
-                        <i class="fas fa-times"></i> Reject
-                    </button>
-                </td>
-            `;
-            tableBody.appendChild(row);
+            tableBody.appendChild(buildPendingRow(donation));
         });
     })
     .catch(error => {
@@ -43,6 +28,27 @@ function loadPendingRequests() {
     });
 }
 
+function buildPendingRow(donation) {
+    const row = document.createElement('tr');
+    row.dataset.id = donation.id;
+    row.innerHTML = `
+        <td>${donation.donorName || 'Anonymous'}</td>
+        <td>${donation.foodType}</td>
+        <td>${donation.foodName}</td>
+        <td>${donation.quantity} ${donation.quantityUnit}</td>
+        <td>${formatDate(donation.requestedDate)}</td>
+        <td>
+            <button onclick="approveDonation('${donation.id}')" class="btn btn-success btn-sm btn-action">
+                <i class="fas fa-check"></i> Approve
+            </button>
+            <button onclick="rejectDonation('${donation.id}')" class="btn btn-danger btn-sm btn-action ms-2">
+                <i class="fas fa-times"></i> Reject
+            </button>
+        </td>
+    `;
+    return row;
+}
+
 function approveDonation(donationId) {
     if (!confirm('Are you sure you want to approve this request?')) {
         return;
@@ -103,78 +109,223 @@ function rejectDonation(donationId) {
     });
 }
 
-// Load organizations
-function loadOrganizations() {
+// Load the overview totals; the server keeps them as counters, so this is a few small reads
+function loadOverview() {
+    const token = localStorage.getItem('adminToken');
+    fetch('/api/admin/overview', {
+        headers: {
+            'Authorization': `Bearer ${token}`
+        }
+    })
+    .then(response => response.json())
+    .then(overview => {
+        document.getElementById('overviewTotal').textContent = overview.totalDonations;
+        document.getElementById('overviewAvailable').textContent = overview.byStatus.AVAILABLE;
+        document.getElementById('overviewReserved').textContent = overview.byStatus.RESERVED;
+        document.getElementById('overviewDonated').textContent = overview.byStatus.DONATED;
+        document.getElementById('overviewExpired').textContent = overview.byStatus.EXPIRED;
+        document.getElementById('overviewOrganizations').textContent = overview.organizations;
+    })
+    .catch(error => {
+        showError('Failed to load overview: ' + error.message);
+    });
+}
+
+// Events can arrive in bursts; refresh the totals at most once per second
+let overviewTimer = null;
+function scheduleOverviewRefresh() {
+    if (overviewTimer === null) {
+        overviewTimer = setTimeout(() => {
+            overviewTimer = null;
+            loadOverview();
+        }, 1000);
+    }
+}
+
+// Load organizations, one page at a time
+function loadOrganizations(cursor) {
     const token = localStorage.getItem('adminToken');
-    fetch('/api/admin/organizations', {
+    fetch(pageUrl('/api/admin/organizations', cursor), {
         headers: {
             'Authorization': `Bearer ${token}`
         }
     })
     .then(response => response.json())
-    .then(organizations => {
+    .then(page => {
         const tableBody = document.querySelector('#organizationsTable tbody');
-        tableBody.innerHTML = '';
+        if (!cursor) {
+            tableBody.innerHTML = '';
+        }
+        removeLoadMoreRow(tableBody);
 
-        if (organizations.length === 0) {
+        if (!cursor && page.items.length === 0) {
             const row = document.createElement('tr');
+            row.className = 'empty-row';
             row.innerHTML = '<td colspan="3">No organizations found</td>';
             tableBody.appendChild(row);
             return;
         }
 
-        organizations.forEach(org => {
-            const row = document.createElement('tr');
-            row.innerHTML = `
-                <td>${org.name}</td>
-                <td>${org.email}</td>
-                <td>${org.phone || 'N/A'}</td>
-            `;
-            tableBody.appendChild(row);
+        page.items.forEach(org => {
+            tableBody.appendChild(buildOrganizationRow(org));
         });
+
+        appendLoadMoreRow(tableBody, 3, page.nextCursor, loadOrganizations);
     })
     .catch(error => {
         showError('Failed to load organizations: ' + error.message);
     });
 }
 
-// Load all donations
-function loadAllDonations() {
+// Load all donations, one page at a time
+function loadAllDonations(cursor) {
     const token = localStorage.getItem('adminToken');
-    fetch('/api/admin/donations', {
+    fetch(pageUrl('/api/admin/donations?view=summary', cursor), {
         headers: {
             'Authorization': `Bearer ${token}`
         }
     })
     .then(response => response.json())
-    .then(donations => {
+    .then(page => {
         const tableBody = document.querySelector('#allDonationsTable tbody');
-        tableBody.innerHTML = '';
+        if (!cursor) {
+            tableBody.innerHTML = '';
+        }
+        removeLoadMoreRow(tableBody);
 
-        if (donations.length === 0) {
+        if (!cursor && page.items.length === 0) {
             const row = document.createElement('tr');
+            row.className = 'empty-row';
             row.innerHTML = '<td colspan="5">No donations found</td>';
             tableBody.appendChild(row);
             return;
         }
 
-        donations.forEach(donation => {
-            const row = document.createElement('tr');
-            row.innerHTML = `
-                <td>${donation.donorName || 'Anonymous'}</td>
-                <td>${donation.foodType}</td>
-                <td>${donation.foodName}</td>
-                <td>${donation.quantity} ${donation.quantityUnit}</td>
-                <td><span class="badge ${getStatusBadgeClass(donation.status)}">${donation.status}</span></td>
-            `;
-            tableBody.appendChild(row);
+        page.items.forEach(donation => {
+            tableBody.appendChild(buildDonationRow(donation));
         });
+
+        appendLoadMoreRow(tableBody, 5, page.nextCursor, loadAllDonations);
     })
     .catch(error => {
         showError('Failed to load donations: ' + error.message);
     });
 }
 
+function buildOrganizationRow(org) {
+    const row = document.createElement('tr');
+    row.dataset.id = org.id;
+    row.innerHTML = `
+        <td>${org.name}</td>
+        <td>${org.email}</td>
+        <td>${org.phone || 'N/A'}</td>
+    `;
+    return row;
+}
+
+function buildDonationRow(donation) {
+    const row = document.createElement('tr');
+    row.dataset.id = donation.id;
+    row.innerHTML = `
+        <td>${donation.donorName || 'Anonymous'}</td>
+        <td>${donation.foodType}</td>
+        <td>${donation.foodName}</td>
+        <td>${donation.quantity} ${donation.quantityUnit}</td>
+        <td><span class="badge ${getStatusBadgeClass(donation.status)}">${donation.status}</span></td>
+    `;
+    return row;
+}
+
+// Live updates pushed by the server (Server-Sent Events)
+function connectEventStream() {
+    // EventSource reconnects on its own and resumes with the Last-Event-ID header
+    const source = new EventSource('/api/admin/events');
+
+    source.addEventListener('donation.created', event => {
+        upsertRow('#allDonationsTable tbody', buildDonationRow(JSON.parse(event.data)));
+        scheduleOverviewRefresh();
+    });
+
+    ['reserved', 'donated', 'rejected', 'cancelled', 'expired'].forEach(type => {
+        source.addEventListener(`donation.${type}`, event => {
+            const donation = JSON.parse(event.data);
+            upsertRow('#allDonationsTable tbody', buildDonationRow(donation));
+            if (donation.status === 'RESERVED') {
+                upsertRow('#pendingRequestsTable tbody', buildPendingRow(donation));
+            } else {
+                removeRow('#pendingRequestsTable tbody', donation.id);
+            }
+            scheduleOverviewRefresh();
+        });
+    });
+
+    source.addEventListener('organization.registered', event => {
+        upsertRow('#organizationsTable tbody', buildOrganizationRow(JSON.parse(event.data)));
+        scheduleOverviewRefresh();
+    });
+
+    // Bulk changes and missed events: reload from the REST endpoints
+    const reloadAll = () => {
+        loadOverview();
+        loadPendingRequests();
+        loadAllDonations();
+        loadOrganizations();
+    };
+    source.addEventListener('donations.expired', reloadAll);
+    source.addEventListener('resync', reloadAll);
+}
+
+function upsertRow(tableSelector, row) {
+    const tableBody = document.querySelector(tableSelector);
+    const existing = tableBody.querySelector(`tr[data-id="${row.dataset.id}"]`);
+    if (existing) {
+        existing.replaceWith(row);
+        return;
+    }
+    const empty = tableBody.querySelector('.empty-row');
+    if (empty) {
+        empty.remove();
+    }
+    tableBody.prepend(row);
+}
+
+function removeRow(tableSelector, id) {
+    const existing = document.querySelector(`${tableSelector} tr[data-id="${id}"]`);
+    if (existing) {
+        existing.remove();
+    }
+}
+
+// Pagination helpers
+function pageUrl(path, cursor) {
+    if (!cursor) {
+        return path;
+    }
+    return `${path}${path.includes('?') ? '&' : '?'}cursor=${encodeURIComponent(cursor)}`;
+}
+
+function removeLoadMoreRow(tableBody) {
+    const existing = tableBody.querySelector('.load-more-row');
+    if (existing) {
+        existing.remove();
+    }
+}
+
+function appendLoadMoreRow(tableBody, colspan, nextCursor, loadPage) {
+    if (!nextCursor) {
+        return;
+    }
+    const row = document.createElement('tr');
+    row.className = 'load-more-row';
+    row.innerHTML = `
+        <td colspan="${colspan}" class="text-center">
+            <button class="btn btn-outline-secondary btn-sm">Load more</button>
+        </td>
+    `;
+    row.querySelector('button').addEventListener('click', () => loadPage(nextCursor));
+    tableBody.appendChild(row);
+}
+
 // Show notification
 function showNotification(message, type = 'success') {
     const notification = document.createElement('div');
@@ -288,19 +439,13 @@ document.addEventListener('DOMContentLoaded', function() {
         return;
     }
 
+    loadOverview();
     loadPendingRequests();
     loadAllDonations();
     loadOrganizations();
 
-    // Set up interval to refresh data
-    setInterval(() => {
-        const activeSection = document.querySelector('.section.active')?.id;
-        if (activeSection === 'requests-section') {
-            loadPendingRequests();
-        } else if (activeSection === 'donations-section') {
-            loadAllDonations();
-        }
-    }, 30000); // Refresh every 30 seconds
+    // Keep the tables current from the server's event stream instead of polling
+    connectEventStream();
 });
 
 // Logout function
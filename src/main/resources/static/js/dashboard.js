@@ -448,11 +448,20 @@ function populateAvailableDonationsTable(donations) {
         tableBody.appendChild(row);
     });
     
-    // Add event listeners to the view and request buttons
+    // Add event listeners to the view and request buttons.
+    // The browse list only carries card fields, so details are fetched on demand.
     document.querySelectorAll('.view-available-donation').forEach(button => {
         button.addEventListener('click', function() {
             const donationId = this.getAttribute('data-id');
-            viewDonationDetails(donationId, donations);
+            fetch(`/api/donations/${donationId}`)
+                .then(response => {
+                    if (!response.ok) {
+                        throw new Error('Failed to load donation');
+                    }
+                    return response.json();
+                })
+                .then(donation => viewDonationDetails(donationId, [donation]))
+                .catch(error => showAlert('danger', error.message));
         });
     });
     
@@ -42,12 +42,16 @@ function loadMyRequests() {
             
             requests.forEach(request => {
                 const statusClass = `status-${request.status.toLowerCase()}`;
+                // Offers from the matching engine wait for the organization's answer
+                const answer = request.status === 'PROPOSED' ? `
+                            <button class="btn btn-success btn-sm" onclick="answerProposal('${request.id}', 'accept')">Accept</button>
+                            <button class="btn btn-outline-secondary btn-sm" onclick="answerProposal('${request.id}', 'decline')">Decline</button>` : '';
                 const row = `
                     <tr>
                         <td>${request.id}</td>
                         <td>${request.foodType}</td>
                         <td>${new Date(request.requestDate).toLocaleDateString()}</td>
-                        <td><span class="status-badge ${statusClass}">${request.status}</span></td>
+                        <td><span class="status-badge ${statusClass}">${request.status}</span>${answer}</td>
                         <td>${request.notes || '-'}</td>
                     </tr>
                 `;
@@ -89,6 +93,23 @@ function submitRequest() {
     .catch(error => console.error('Error submitting request:', error));
 }
 
+// Accept or decline a proposal from the matching engine
+function answerProposal(requestId, action) {
+    fetch(`/api/donation-requests/${requestId}/${action}`, {
+        method: 'POST'
+    })
+    .then(response => {
+        if (response.status === 409) {
+            return response.text().then(message => showNotification(message));
+        }
+        if (action === 'accept') {
+            showNotification('Offer accepted! Waiting for admin approval.');
+        }
+    })
+    .then(() => loadMyRequests())
+    .catch(error => console.error('Error answering proposal:', error));
+}
+
 // Show notification
 function showNotification(message) {
     const notification = document.createElement('div');
@@ -106,22 +127,28 @@ function showNotification(message) {
     }, 5000);
 }
 
-// Check for request status updates
-function checkRequestStatus() {
+// Listen for request decisions pushed by the server. Decisions not yet acknowledged are
+// sent again on every connect, so each one is marked as shown only after it was displayed.
+function listenForRequestStatus() {
     const currentUserId = localStorage.getItem('userId');
-    
-    fetch(`/api/donation-requests/status/${currentUserId}`)
-        .then(response => response.json())
-        .then(requests => {
-            requests.forEach(request => {
-                if (request.status === 'APPROVED' && !request.notificationShown) {
-                    showNotification('Congratulations! Your donation request has been approved!');
-                    markNotificationAsShown(request.id);
-                    loadMyRequests(); // Refresh the requests list
-                }
-            });
-        })
-        .catch(error => console.error('Error checking request status:', error));
+    const seen = new Set();
+    const source = new EventSource(`/api/donation-requests/notifications/${currentUserId}`);
+
+    source.addEventListener('request.status', event => {
+        const request = JSON.parse(event.data);
+        if (seen.has(request.id)) {
+            return;
+        }
+        seen.add(request.id);
+
+        if (request.status === 'APPROVED') {
+            showNotification('Congratulations! Your donation request has been approved!');
+        } else if (request.status === 'REJECTED') {
+            showNotification('Your donation request was not approved.');
+        }
+        markNotificationAsShown(request.id);
+        loadMyRequests(); // Refresh the requests list
+    });
 }
 
 // Mark notification as shown
@@ -135,6 +162,5 @@ function markNotificationAsShown(requestId) {
 document.addEventListener('DOMContentLoaded', () => {
     loadAvailableDonations();
     loadMyRequests();
-    // Check for updates every 30 seconds
-    setInterval(checkRequestStatus, 30000);
-}); 
\ No newline at end of file
+    listenForRequestStatus();
+});
@@ -0,0 +1,52 @@
+package com.foodredistribution.benchmark;
+
+import java.util.Arrays;
+
+/**
+ * Growable array of latency samples in nanoseconds. Not thread-safe: each client thread keeps
+ * its own and they are merged once the run is over.
+ */
+final class LatencySamples {
+
+	private long[] values = new long[1024];
+	private int count;
+	private boolean sorted = true;
+
+	void add(long nanos) {
+		if (count == values.length) {
+			values = Arrays.copyOf(values, count * 2);
+		}
+		values[count++] = nanos;
+		sorted = false;
+	}
+
+	void addAll(LatencySamples other) {
+		for (int i = 0; i < other.count; i++) {
+			add(other.values[i]);
+		}
+	}
+
+	int count() {
+		return count;
+	}
+
+	double percentileMs(double percentile) {
+		if (count == 0) {
+			return 0;
+		}
+		sort();
+		int index = (int) Math.ceil(percentile / 100 * count) - 1;
+		return values[Math.max(index, 0)] / 1e6;
+	}
+
+	double maxMs() {
+		return percentileMs(100);
+	}
+
+	private void sort() {
+		if (!sorted) {
+			Arrays.sort(values, 0, count);
+			sorted = true;
+		}
+	}
+}
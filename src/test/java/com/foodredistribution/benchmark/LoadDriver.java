@@ -0,0 +1,93 @@
+package com.foodredistribution.benchmark;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Closed-loop HTTP load generator: each of {@code concurrency} clients, one virtual thread
+ * apiece, sends its next request as soon as the previous answer arrives, until the deadline
+ * passes or the request supplier returns null.
+ */
+final class LoadDriver {
+
+	private final HttpClient client = HttpClient.newBuilder()
+		.version(HttpClient.Version.HTTP_1_1)
+		.connectTimeout(Duration.ofSeconds(10))
+		.executor(Executors.newVirtualThreadPerTaskExecutor())
+		.build();
+
+	Result run(String scenario, String threadMode, int concurrency, Duration duration,
+			Supplier<HttpRequest> requests) throws InterruptedException {
+		Queue<LatencySamples> latencies = new ConcurrentLinkedQueue<>();
+		LongAdder errors = new LongAdder();
+		long start = System.nanoTime();
+		long deadline = start + duration.toNanos();
+
+		try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < concurrency; i++) {
+				clients.execute(() -> {
+					LatencySamples samples = new LatencySamples();
+					HttpRequest request;
+					while (System.nanoTime() < deadline && (request = requests.get()) != null) {
+						long sent = System.nanoTime();
+						try {
+							HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+							if (response.statusCode() >= 400) {
+								errors.increment();
+							}
+						} catch (Exception e) {
+							errors.increment();
+						}
+						samples.add(System.nanoTime() - sent);
+					}
+					latencies.add(samples);
+				});
+			}
+			clients.shutdown();
+			clients.awaitTermination(duration.toSeconds() + 120, TimeUnit.SECONDS);
+		}
+
+		double seconds = (System.nanoTime() - start) / 1e9;
+		LatencySamples all = new LatencySamples();
+		latencies.forEach(all::addAll);
+		return new Result(scenario, threadMode, concurrency, all.count(), errors.sum(), seconds,
+			all.count() / seconds, all.percentileMs(50), all.percentileMs(95), all.percentileMs(99), all.maxMs());
+	}
+
+	record Result(String scenario, String threadMode, int concurrency, long requests, long errors,
+			double seconds, double throughput, double p50Ms, double p95Ms, double p99Ms, double maxMs) {
+
+		Map<String, Object> toMap() {
+			Map<String, Object> map = new LinkedHashMap<>();
+			map.put("scenario", scenario);
+			map.put("threadMode", threadMode);
+			map.put("concurrency", concurrency);
+			map.put("requests", requests);
+			map.put("errors", errors);
+			map.put("seconds", seconds);
+			map.put("throughputPerSecond", throughput);
+			map.put("p50Ms", p50Ms);
+			map.put("p95Ms", p95Ms);
+			map.put("p99Ms", p99Ms);
+			map.put("maxMs", maxMs);
+			return map;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%-8s %-9s c=%-5d %8d req %6d err %10.1f req/s  p50 %7.1f  p95 %7.1f  p99 %7.1f  max %8.1f ms",
+				scenario, threadMode, concurrency, requests, errors, throughput, p50Ms, p95Ms, p99Ms, maxMs);
+		}
+	}
+}
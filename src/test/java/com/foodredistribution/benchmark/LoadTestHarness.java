@@ -0,0 +1,404 @@
+package com.foodredistribution.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foodredistribution.FoodRedApplication;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * End-to-end load test through the real REST API. The application is started in-process against
+ * an in-memory MongoDB stand-in (or a real server given {@code loadtest.mongo-uri}) and driven by
+ * four kinds of concurrent actors:
+ * <ul>
+ *   <li>donors posting donations ({@code POST /api/donations})</li>
+ *   <li>organizations browsing the marketplace ({@code GET /api/donations/available/{id}})</li>
+ *   <li>organizations competing to reserve the same few donations ({@code POST /api/donations/{id}/request})</li>
+ *   <li>admins approving reservations ({@code PUT /api/admin/requests/{id}/approve})</li>
+ * </ul>
+ * Throughput and latency percentiles are reported per endpoint and written as JSON to
+ * {@code target/benchmarks/load-test.json}. The run fails when an endpoint exceeds its error
+ * rate or p95 latency threshold. A 409 from a lost race is counted as a conflict, not an error.
+ *
+ * <pre>
+ * mvn -Pload-test test-compile exec:exec -Dloadtest.args="-Dloadtest.duration-s=60 -Dloadtest.competitors=200 \
+ *     -Dloadtest.max-p95-ms=500 -Dloadtest.max-p95-ms.browse=200"
+ * </pre>
+ */
+public final class LoadTestHarness {
+
+	enum Endpoint {
+		CREATE("POST /api/donations"),
+		BROWSE("GET /api/donations/available/{organizationId}"),
+		RESERVE("POST /api/donations/{donationId}/request"),
+		PENDING("GET /api/admin/requests/pending"),
+		APPROVE("PUT /api/admin/requests/{donationId}/approve");
+
+		final String label;
+
+		Endpoint(String label) {
+			this.label = label;
+		}
+
+		String key() {
+			return name().toLowerCase();
+		}
+	}
+
+	private static final ObjectMapper JSON = new ObjectMapper();
+
+	private final String baseUrl;
+	private final HttpClient client = HttpClient.newBuilder()
+		.version(HttpClient.Version.HTTP_1_1)
+		.connectTimeout(Duration.ofSeconds(10))
+		.executor(Executors.newVirtualThreadPerTaskExecutor())
+		.build();
+	private final long thinkMillis;
+	private volatile long deadline;
+
+	private LoadTestHarness(String baseUrl, long thinkMillis) {
+		this.baseUrl = baseUrl;
+		this.thinkMillis = thinkMillis;
+	}
+
+	public static void main(String[] args) {
+		int status = 1;
+		try {
+			List<String> violations = execute();
+			if (violations.isEmpty()) {
+				status = 0;
+			} else {
+				System.err.println("Load test thresholds violated:");
+				violations.forEach(violation -> System.err.println("  " + violation));
+			}
+		} catch (Exception e) {
+			e.printStackTrace();
+		}
+		// Exit explicitly: with netty on the test classpath (for the stand-in) Spring Boot gives both
+		// Mongo clients a netty transport but only shuts down one event loop group on close
+		System.exit(status);
+	}
+
+	private static List<String> execute() throws Exception {
+		Duration duration = Duration.ofSeconds(Integer.getInteger("loadtest.duration-s", 30));
+		int donors = Integer.getInteger("loadtest.donors", 10);
+		int browsers = Integer.getInteger("loadtest.browsers", 50);
+		int competitors = Integer.getInteger("loadtest.competitors", 50);
+		int admins = Integer.getInteger("loadtest.admins", 2);
+		long thinkMillis = Long.getLong("loadtest.think-ms", 0);
+		double maxErrorRate = Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01"));
+		double defaultMaxP95 = Double.parseDouble(System.getProperty("loadtest.max-p95-ms", "1000"));
+		Path output = Path.of(System.getProperty("loadtest.output", "target/benchmarks/load-test.json"));
+
+		MongoServer standIn = null;
+		String mongoUri = System.getProperty("loadtest.mongo-uri", "");
+		if (mongoUri.isBlank()) {
+			standIn = new MongoServer(new MemoryBackend());
+			InetSocketAddress address = standIn.bind();
+			mongoUri = "mongodb://" + address.getHostString() + ":" + address.getPort() + "/foodred_loadtest";
+		}
+
+		Map<Endpoint, EndpointStats> results;
+		ConfigurableApplicationContext app = new SpringApplicationBuilder(FoodRedApplication.class).run(
+			// Command-line arguments, so they take precedence over application.properties
+			"--spring.data.mongodb.uri=" + mongoUri,
+			"--server.port=0",
+			"--donation.expiry.sweep-enabled=false",
+			"--donation.expiry.timer-enabled=false",
+			"--donation.matching.enabled=false",
+			"--logging.level.root=WARN",
+			"--logging.level.org.springframework.web=WARN",
+			"--logging.level.org.springframework.security=WARN",
+			"--logging.level.org.springframework.data.mongodb.core=WARN");
+		try {
+			LoadTestHarness harness = new LoadTestHarness(
+				"http://localhost:" + app.getEnvironment().getProperty("local.server.port"), thinkMillis);
+			String adminToken = harness.login(
+				System.getProperty("loadtest.admin-username", "Inder_Kukreja"),
+				System.getProperty("loadtest.admin-password", "Apple@12345"));
+			results = harness.run(duration, donors, browsers, competitors, admins, adminToken);
+		} finally {
+			app.close();
+			if (standIn != null) {
+				standIn.shutdownNow();
+			}
+		}
+
+		List<String> violations = new ArrayList<>();
+		List<Map<String, Object>> endpoints = new ArrayList<>();
+		System.out.printf("%-48s %8s %8s %8s %7s %10s %8s %8s %8s %8s%n",
+			"endpoint", "requests", "ok", "conflict", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+		for (Map.Entry<Endpoint, EndpointStats> entry : results.entrySet()) {
+			Endpoint endpoint = entry.getKey();
+			EndpointStats stats = entry.getValue();
+			double maxP95 = Double.parseDouble(System.getProperty("loadtest.max-p95-ms." + endpoint.key(),
+				Double.toString(defaultMaxP95)));
+			double throughput = stats.requests() / (double) duration.toSeconds();
+			double p95 = stats.samples.percentileMs(95);
+			boolean passed = true;
+			if (stats.requests() > 0 && stats.errorRate() > maxErrorRate) {
+				violations.add(String.format("%s error rate %.2f%% > %.2f%%", endpoint.label,
+					stats.errorRate() * 100, maxErrorRate * 100));
+				passed = false;
+			}
+			if (p95 > maxP95) {
+				violations.add(String.format("%s p95 %.1f ms > %.1f ms", endpoint.label, p95, maxP95));
+				passed = false;
+			}
+			System.out.printf("%-48s %8d %8d %8d %7d %10.1f %8.1f %8.1f %8.1f %8.1f%n", endpoint.label,
+				stats.requests(), stats.ok, stats.conflicts, stats.errors, throughput,
+				stats.samples.percentileMs(50), p95, stats.samples.percentileMs(99), stats.samples.maxMs());
+
+			Map<String, Object> row = new LinkedHashMap<>();
+			row.put("endpoint", endpoint.key());
+			row.put("label", endpoint.label);
+			row.put("requests", stats.requests());
+			row.put("ok", stats.ok);
+			row.put("conflicts", stats.conflicts);
+			row.put("errors", stats.errors);
+			row.put("throughputPerSecond", throughput);
+			row.put("p50Ms", stats.samples.percentileMs(50));
+			row.put("p95Ms", p95);
+			row.put("p99Ms", stats.samples.percentileMs(99));
+			row.put("maxMs", stats.samples.maxMs());
+			row.put("maxP95Ms", maxP95);
+			row.put("passed", passed);
+			endpoints.add(row);
+		}
+
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("durationSeconds", duration.toSeconds());
+		report.put("actors", Map.of("donors", donors, "browsers", browsers, "competitors", competitors, "admins", admins));
+		report.put("maxErrorRate", maxErrorRate);
+		report.put("passed", violations.isEmpty());
+		report.put("violations", violations);
+		report.put("endpoints", endpoints);
+		Files.createDirectories(output.toAbsolutePath().getParent());
+		JSON.writerWithDefaultPrettyPrinter().writeValue(output.toFile(), report);
+		System.out.println("Report written to " + output.toAbsolutePath());
+		return violations;
+	}
+
+	private String login(String username, String password) throws Exception {
+		HttpResponse<String> response = client.send(request("/api/admin/login", null)
+			.header("Content-Type", "application/json")
+			.POST(json(Map.of("username", username, "password", password)))
+			.build(), HttpResponse.BodyHandlers.ofString());
+		if (response.statusCode() != 200) {
+			throw new IllegalStateException("Admin login failed with status " + response.statusCode());
+		}
+		return JSON.readTree(response.body()).get("token").asText();
+	}
+
+	private Map<Endpoint, EndpointStats> run(Duration duration, int donors, int browsers, int competitors,
+			int admins, String adminToken) throws InterruptedException {
+		Queue<Map<Endpoint, EndpointStats>> perActor = new ConcurrentLinkedQueue<>();
+		deadline = System.nanoTime() + duration.toNanos();
+		try (ExecutorService actors = Executors.newVirtualThreadPerTaskExecutor()) {
+			start(actors, perActor, donors, this::donor);
+			start(actors, perActor, browsers, this::browser);
+			start(actors, perActor, competitors, this::competitor);
+			for (int i = 0; i < admins; i++) {
+				start(actors, perActor, 1, (index, stats) -> admin(adminToken, stats));
+			}
+			actors.shutdown();
+			actors.awaitTermination(duration.toSeconds() + 120, TimeUnit.SECONDS);
+		}
+
+		Map<Endpoint, EndpointStats> merged = new EnumMap<>(Endpoint.class);
+		for (Endpoint endpoint : Endpoint.values()) {
+			merged.put(endpoint, new EndpointStats());
+		}
+		perActor.forEach(stats -> stats.forEach((endpoint, s) -> merged.get(endpoint).addAll(s)));
+		return merged;
+	}
+
+	private interface Actor {
+		void run(int index, Map<Endpoint, EndpointStats> stats) throws Exception;
+	}
+
+	private void start(ExecutorService executor, Queue<Map<Endpoint, EndpointStats>> perActor, int count, Actor actor) {
+		for (int i = 0; i < count; i++) {
+			int index = i;
+			executor.execute(() -> {
+				Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+				try {
+					actor.run(index, stats);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} catch (Exception e) {
+					System.err.println("Actor failed: " + e);
+				} finally {
+					perActor.add(stats);
+				}
+			});
+		}
+	}
+
+	private void donor(int index, Map<Endpoint, EndpointStats> stats) throws InterruptedException {
+		String organizationId = "loadtest-donor-" + index;
+		for (int sequence = 0; running(); sequence++) {
+			long expiry = System.currentTimeMillis() + TimeUnit.HOURS.toMillis(ThreadLocalRandom.current().nextInt(6, 168));
+			Map<String, Object> donation = new LinkedHashMap<>();
+			donation.put("organizationId", organizationId);
+			donation.put("donorName", "Load Test Donor " + index);
+			donation.put("foodType", "Prepared");
+			donation.put("foodName", "Meal " + sequence);
+			donation.put("quantity", "10");
+			donation.put("quantityUnit", "servings");
+			donation.put("expiryDate", expiry);
+			donation.put("pickupAddress", index + " Load Test Street");
+			donation.put("contactPhone", "555-0100");
+			call(stats, Endpoint.CREATE, request("/api/donations", null)
+				.header("Content-Type", "application/json").POST(json(donation)), null);
+			think();
+		}
+	}
+
+	private void browser(int index, Map<Endpoint, EndpointStats> stats) throws InterruptedException {
+		HttpRequest.Builder browse = request("/api/donations/available/loadtest-browser-" + index + "?limit=50", null).GET();
+		while (running()) {
+			call(stats, Endpoint.BROWSE, browse, null);
+			think();
+		}
+	}
+
+	// Browses, then tries to reserve one of the few soonest-expiring donations everyone else sees too
+	private void competitor(int index, Map<Endpoint, EndpointStats> stats) throws InterruptedException {
+		String organizationId = "loadtest-org-" + index;
+		HttpRequest.Builder browse = request("/api/donations/available/" + organizationId + "?limit=5", null).GET();
+		while (running()) {
+			List<String> candidates = new ArrayList<>();
+			call(stats, Endpoint.BROWSE, browse, body -> body.forEach(donation -> candidates.add(donation.get("id").asText())));
+			if (!candidates.isEmpty() && running()) {
+				String donationId = candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
+				call(stats, Endpoint.RESERVE, request("/api/donations/" + donationId + "/request", null)
+					.header("Content-Type", "application/json")
+					.POST(json(Map.of("organizationId", organizationId))), null);
+			}
+			think();
+		}
+	}
+
+	private void admin(String token, Map<Endpoint, EndpointStats> stats) throws InterruptedException {
+		HttpRequest.Builder pending = request("/api/admin/requests/pending?fields=status", token).GET();
+		while (running()) {
+			List<String> reserved = new ArrayList<>();
+			call(stats, Endpoint.PENDING, pending, body -> body.forEach(donation -> reserved.add(donation.get("id").asText())));
+			for (String donationId : reserved.subList(0, Math.min(reserved.size(), 10))) {
+				if (!running()) {
+					break;
+				}
+				call(stats, Endpoint.APPROVE, request("/api/admin/requests/" + donationId + "/approve", token)
+					.header("Content-Type", "application/json")
+					.PUT(json(Map.of("notes", "Approved by load test"))), null);
+			}
+			if (reserved.isEmpty()) {
+				Thread.sleep(50);
+			}
+			think();
+		}
+	}
+
+	/**
+	 * Sends one request and records it against {@code endpoint}; a successful JSON body is handed
+	 * to {@code onBody}. Returns nothing, failures only show up in the statistics.
+	 */
+	private void call(Map<Endpoint, EndpointStats> stats, Endpoint endpoint, HttpRequest.Builder request,
+			Consumer<JsonNode> onBody) throws InterruptedException {
+		EndpointStats endpointStats = stats.computeIfAbsent(endpoint, e -> new EndpointStats());
+		long start = System.nanoTime();
+		try {
+			HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+			endpointStats.samples.add(System.nanoTime() - start);
+			int status = response.statusCode();
+			if (status == 409) {
+				endpointStats.conflicts++;
+			} else if (status >= 400) {
+				endpointStats.errors++;
+			} else {
+				endpointStats.ok++;
+				if (onBody != null) {
+					onBody.accept(JSON.readTree(response.body()));
+				}
+			}
+		} catch (InterruptedException e) {
+			throw e;
+		} catch (Exception e) {
+			endpointStats.samples.add(System.nanoTime() - start);
+			endpointStats.errors++;
+		}
+	}
+
+	private HttpRequest.Builder request(String path, String token) {
+		HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30));
+		if (token != null) {
+			builder.header("Authorization", "Bearer " + token);
+		}
+		return builder;
+	}
+
+	private static HttpRequest.BodyPublisher json(Object body) {
+		try {
+			return HttpRequest.BodyPublishers.ofByteArray(JSON.writeValueAsBytes(body));
+		} catch (Exception e) {
+			throw new IllegalArgumentException(e);
+		}
+	}
+
+	private boolean running() {
+		return System.nanoTime() < deadline;
+	}
+
+	private void think() throws InterruptedException {
+		if (thinkMillis > 0) {
+			Thread.sleep(thinkMillis);
+		}
+	}
+
+	private static final class EndpointStats {
+
+		final LatencySamples samples = new LatencySamples();
+		long ok;
+		long conflicts;
+		long errors;
+
+		long requests() {
+			return ok + conflicts + errors;
+		}
+
+		double errorRate() {
+			return requests() == 0 ? 0 : (double) errors / requests();
+		}
+
+		void addAll(EndpointStats other) {
+			samples.addAll(other.samples);
+			ok += other.ok;
+			conflicts += other.conflicts;
+			errors += other.errors;
+		}
+	}
+}
@@ -0,0 +1,37 @@
+package com.foodredistribution.benchmark;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+
+import java.util.Set;
+
+/**
+ * Delays every data command by a fixed time so a local MongoDB behaves like a slow, remote one.
+ * Deliberately not annotated: benchmarks register it as a source, component scanning never
+ * picks it up.
+ */
+public class SimulatedMongoLatency {
+
+	private static final Set<String> DATA_COMMANDS = Set.of(
+		"find", "getMore", "aggregate", "count", "insert", "update", "delete", "findAndModify");
+
+	@Bean
+	MongoClientSettingsBuilderCustomizer commandDelay(@Value("${benchmark.io-delay-ms:0}") long delayMs) {
+		return settings -> settings.addCommandListener(new CommandListener() {
+			@Override
+			public void commandStarted(CommandStartedEvent event) {
+				if (delayMs <= 0 || !DATA_COMMANDS.contains(event.getCommandName())) {
+					return;
+				}
+				try {
+					Thread.sleep(delayMs);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		});
+	}
+}
@@ -0,0 +1,129 @@
+package com.foodredistribution.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foodredistribution.FoodRedApplication;
+import com.foodredistribution.model.FoodDonation;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Compares Tomcat on platform threads with Tomcat on virtual threads for the marketplace browse
+ * (GET /api/donations/available/{organizationId}) and reserve (POST /api/donations/{id}/request)
+ * paths. The application is started once per thread mode against a real MongoDB, with a
+ * simulated per-command latency so the request threads, not the CPU, are the scarce resource.
+ *
+ * <pre>
+ * mvn -Pthread-benchmark test-compile exec:java \
+ *     -Dbenchmark.mongo-uri=mongodb://localhost:27017/foodred_benchmark \
+ *     -Dbenchmark.concurrency=1000 -Dbenchmark.duration-s=20 -Dbenchmark.io-delay-ms=20
+ * </pre>
+ *
+ * Results are printed and written as JSON to {@code target/benchmarks/thread-mode.json}. Run with
+ * {@code MAVEN_OPTS=-Djdk.tracePinnedThreads=short} to have the JDK report any carrier pinning.
+ */
+public final class ThreadModeBenchmark {
+
+	private static final String DONOR = "benchmark-donor";
+	private static final String REQUESTER = "benchmark-requester";
+
+	private ThreadModeBenchmark() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		String mongoUri = System.getProperty("benchmark.mongo-uri", "mongodb://localhost:27017/foodred_benchmark");
+		int concurrency = Integer.getInteger("benchmark.concurrency", 1000);
+		Duration warmup = Duration.ofSeconds(Integer.getInteger("benchmark.warmup-s", 5));
+		Duration duration = Duration.ofSeconds(Integer.getInteger("benchmark.duration-s", 20));
+		int ioDelayMs = Integer.getInteger("benchmark.io-delay-ms", 20);
+		int listedDonations = Integer.getInteger("benchmark.listed-donations", 200);
+		int reservableDonations = Integer.getInteger("benchmark.reservable-donations", 50000);
+		Path output = Path.of(System.getProperty("benchmark.output", "target/benchmarks/thread-mode.json"));
+
+		LoadDriver driver = new LoadDriver();
+		List<LoadDriver.Result> results = new ArrayList<>();
+		for (String mode : List.of("platform", "virtual")) {
+			ConfigurableApplicationContext app = new SpringApplicationBuilder(FoodRedApplication.class, SimulatedMongoLatency.class)
+				.run(
+					// Command-line arguments, so they take precedence over application.properties
+					"--spring.threads.virtual.enabled=" + "virtual".equals(mode),
+					"--spring.data.mongodb.uri=" + mongoUri,
+					"--server.port=0",
+					// Let the request threads, not the connection pool, be the limit under test
+					"--mongo.pool.max-size=" + concurrency,
+					"--benchmark.io-delay-ms=" + ioDelayMs,
+					"--donation.expiry.sweep-enabled=false",
+					"--donation.expiry.timer-enabled=false",
+					"--donation.matching.enabled=false",
+					"--logging.level.root=WARN",
+					"--logging.level.org.springframework.web=WARN",
+					"--logging.level.org.springframework.security=WARN",
+					"--logging.level.org.springframework.data.mongodb.core=WARN");
+			try {
+				String baseUrl = "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+				MongoTemplate mongoTemplate = app.getBean(MongoTemplate.class);
+				mongoTemplate.remove(new Query(Criteria.where("organizationId").is(DONOR)), FoodDonation.class);
+				seed(mongoTemplate, listedDonations);
+				Queue<String> reservable = new ConcurrentLinkedQueue<>(seed(mongoTemplate, reservableDonations));
+
+				HttpRequest browse = HttpRequest.newBuilder(URI.create(baseUrl + "/api/donations/available/" + REQUESTER)).GET().build();
+				driver.run("warmup", mode, concurrency, warmup, () -> browse);
+				results.add(driver.run("browse", mode, concurrency, duration, () -> browse));
+				results.add(driver.run("reserve", mode, concurrency, duration, () -> {
+					String id = reservable.poll();
+					return id == null ? null : HttpRequest.newBuilder(URI.create(baseUrl + "/api/donations/" + id + "/request"))
+						.header("Content-Type", "application/json")
+						.POST(HttpRequest.BodyPublishers.ofString("{\"organizationId\":\"" + REQUESTER + "\"}"))
+						.build();
+				}));
+				mongoTemplate.remove(new Query(Criteria.where("organizationId").is(DONOR)), FoodDonation.class);
+			} finally {
+				app.close();
+			}
+		}
+
+		results.forEach(System.out::println);
+		Files.createDirectories(output.toAbsolutePath().getParent());
+		new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(output.toFile(), Map.of(
+			"concurrency", concurrency,
+			"durationSeconds", duration.toSeconds(),
+			"ioDelayMs", ioDelayMs,
+			"results", results.stream().map(LoadDriver.Result::toMap).toList()));
+		System.out.println("Results written to " + output.toAbsolutePath());
+	}
+
+	private static List<String> seed(MongoTemplate mongoTemplate, int count) {
+		Date expiry = new Date(System.currentTimeMillis() + Duration.ofDays(7).toMillis());
+		List<FoodDonation> donations = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			FoodDonation donation = new FoodDonation();
+			donation.setOrganizationId(DONOR);
+			donation.setDonorName("Benchmark Donor");
+			donation.setFoodType("Prepared");
+			donation.setFoodName("Meal " + i);
+			donation.setQuantity("10");
+			donation.setQuantityUnit("servings");
+			donation.setExpiryDate(expiry);
+			donation.setPickupAddress("1 Benchmark Way");
+			donation.setContactPhone("555-0100");
+			donation.setStatus("AVAILABLE");
+			donation.setCreatedDate(new Date());
+			donations.add(donation);
+		}
+		return mongoTemplate.insertAll(donations).stream().map(FoodDonation::getId).toList();
+	}
+}
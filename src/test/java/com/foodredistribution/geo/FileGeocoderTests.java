@@ -0,0 +1,48 @@
+package com.foodredistribution.geo;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FileGeocoderTests {
+
+	private static final String PLACES = """
+			# name,latitude,longitude
+			Delhi,28.6139,77.2090
+			Karol Bagh,28.6519,77.1909
+			Andheri, Mumbai,19.1136,72.8697
+			""";
+
+	private final FileGeocoder geocoder = FileGeocoder.load(
+			new ByteArrayResource(PLACES.getBytes(StandardCharsets.UTF_8)));
+
+	@Test
+	void prefersTheMostSpecificComponent() {
+		assertThat(geocoder.geocode("12-B, Karol Bagh, New Delhi 110005")).isEqualTo(new GeoJsonPoint(77.1909, 28.6519));
+		assertThat(geocoder.geocode("Flat 3, Some Lane, Delhi")).isEqualTo(new GeoJsonPoint(77.2090, 28.6139));
+	}
+
+	@Test
+	void matchesQualifiedNamesIgnoringCaseAndPunctuation() {
+		assertThat(geocoder.geocode("Shop 7, ANDHERI., Mumbai - 400069")).isEqualTo(new GeoJsonPoint(72.8697, 19.1136));
+		assertThat(geocoder.geocode("Andheri")).isNull();
+	}
+
+	@Test
+	void returnsNullForUnknownOrBlankAddresses() {
+		assertThat(geocoder.geocode("1 Main Street, Springfield")).isNull();
+		assertThat(geocoder.geocode(" ")).isNull();
+		assertThat(geocoder.geocode(null)).isNull();
+	}
+
+	@Test
+	void rejectsMalformedLines() {
+		ByteArrayResource bad = new ByteArrayResource("Delhi,north,east\n".getBytes(StandardCharsets.UTF_8));
+		assertThatThrownBy(() -> FileGeocoder.load(bad)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
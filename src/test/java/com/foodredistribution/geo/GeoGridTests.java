@@ -0,0 +1,41 @@
+package com.foodredistribution.geo;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class GeoGridTests {
+
+	@Test
+	void distanceMatchesKnownCityPairs() {
+		// Delhi to Mumbai is about 1150 km as the crow flies
+		assertThat(GeoGrid.distanceKm(28.6139, 77.2090, 19.0760, 72.8777)).isCloseTo(1150, within(10.0));
+		assertThat(GeoGrid.distanceKm(28.6139, 77.2090, 28.6139, 77.2090)).isZero();
+	}
+
+	@Test
+	void findsExactlyThePointsABruteForceScanFinds() {
+		Random random = new Random(42);
+		GeoGrid<Integer> grid = new GeoGrid<>(25);
+		List<GeoJsonPoint> points = random.ints(2000, 0, Integer.MAX_VALUE)
+				.mapToObj(i -> new GeoJsonPoint(76 + random.nextDouble() * 3, 27 + random.nextDouble() * 3))
+				.toList();
+		for (int i = 0; i < points.size(); i++) {
+			grid.add(i, points.get(i));
+		}
+
+		GeoJsonPoint center = new GeoJsonPoint(77.2090, 28.6139);
+		long expected = points.stream()
+				.filter(p -> GeoGrid.distanceKm(center.getY(), center.getX(), p.getY(), p.getX()) <= 40)
+				.count();
+		List<GeoGrid.Hit<Integer>> hits = grid.within(center, 40);
+
+		assertThat(hits).hasSize((int) expected);
+		assertThat(hits).allSatisfy(hit -> assertThat(hit.distanceKm()).isLessThanOrEqualTo(40));
+	}
+}
@@ -0,0 +1,55 @@
+package com.foodredistribution.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of {@link JwtAuthenticationFilter} for a bearer token, resolving the principal
+ * from the claims or through the cached user lookup (the database stands in as an in-memory map).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+	@Param({"claims", "database"})
+	public String principalSource;
+
+	private JwtAuthenticationFilter filter;
+	private String authorizationHeader;
+
+	@Setup
+	public void setUp() {
+		JwtUtil jwtUtil = JwtBenchmark.jwtUtil(10000);
+		CachingUserDetailsService userDetailsService = new CachingUserDetailsService(
+			username -> User.withUsername(username).password("").roles("ADMIN").build(), 300000, 1000);
+		filter = new JwtAuthenticationFilter(jwtUtil, new PrincipalResolver(userDetailsService, principalSource));
+		authorizationHeader = "Bearer " + jwtUtil.generateToken("benchmark-admin", "ADMIN");
+	}
+
+	@Benchmark
+	public MockHttpServletResponse authenticate() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/admin/donations");
+		request.addHeader("Authorization", authorizationHeader);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		try {
+			filter.doFilter(request, response, new MockFilterChain());
+		} finally {
+			SecurityContextHolder.clearContext();
+		}
+		return response;
+	}
+}
@@ -0,0 +1,59 @@
+package com.foodredistribution.security;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and verification cost of {@link JwtUtil}, with and without the verified-token cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+	static final String SECRET = "YourVerySecureJwtSecretKeyHereMakeItLongAndComplexForSecurity";
+
+	private JwtUtil cachingJwtUtil;
+	private JwtUtil uncachedJwtUtil;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		cachingJwtUtil = jwtUtil(10000);
+		uncachedJwtUtil = jwtUtil(0);
+		token = cachingJwtUtil.generateToken("benchmark-admin", "ADMIN");
+	}
+
+	static JwtUtil jwtUtil(int cacheMaxSize) {
+		JwtUtil jwtUtil = new JwtUtil();
+		ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+		ReflectionTestUtils.setField(jwtUtil, "expiration", 86400000L);
+		ReflectionTestUtils.setField(jwtUtil, "cacheMaxSize", cacheMaxSize);
+		jwtUtil.init();
+		return jwtUtil;
+	}
+
+	@Benchmark
+	public String generateToken() {
+		return cachingJwtUtil.generateToken("benchmark-admin", "ADMIN");
+	}
+
+	@Benchmark
+	public Claims verifyUncached() {
+		return uncachedJwtUtil.verify(token);
+	}
+
+	@Benchmark
+	public Claims verifyCached() {
+		return cachingJwtUtil.verify(token);
+	}
+}
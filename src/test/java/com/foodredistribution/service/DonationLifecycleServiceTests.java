@@ -0,0 +1,140 @@
+package com.foodredistribution.service;
+
+import com.foodredistribution.exception.InvalidStatusTransitionException;
+import com.foodredistribution.model.FoodDonation;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DonationLifecycleServiceTests {
+
+	private static final int REQUESTERS = 8;
+
+	private static MongoServer server;
+	private static MongoClient client;
+
+	private MongoTemplate mongoTemplate;
+	private DonationLifecycleService lifecycleService;
+	private DonationService donationService;
+
+	@BeforeAll
+	static void startMongo() {
+		server = new MongoServer(new MemoryBackend());
+		InetSocketAddress address = server.bind();
+		client = MongoClients.create("mongodb://" + address.getHostString() + ":" + address.getPort());
+	}
+
+	@AfterAll
+	static void stopMongo() {
+		client.close();
+		server.shutdownNow();
+	}
+
+	@BeforeEach
+	void setUp() {
+		mongoTemplate = new MongoTemplate(client, "lifecycle");
+		mongoTemplate.dropCollection(FoodDonation.class);
+		DonationCounterService counterService = new DonationCounterService();
+		ReflectionTestUtils.setField(counterService, "mongoTemplate", mongoTemplate);
+		lifecycleService = new DonationLifecycleService();
+		ReflectionTestUtils.setField(lifecycleService, "mongoTemplate", mongoTemplate);
+		ReflectionTestUtils.setField(lifecycleService, "counterService", counterService);
+		ReflectionTestUtils.setField(lifecycleService, "eventPublisher", (ApplicationEventPublisher) event -> { });
+		donationService = new DonationService();
+		ReflectionTestUtils.setField(donationService, "lifecycleService", lifecycleService);
+	}
+
+	@Test
+	void reservedOnlyFollowsAvailable() {
+		assertThat(DonationLifecycleService.predecessorsOf("RESERVED")).containsExactly("AVAILABLE");
+	}
+
+	@Test
+	void adminDecisionsRequireReserved() {
+		assertThat(DonationLifecycleService.predecessorsOf("DONATED")).containsExactly("RESERVED");
+		assertThat(DonationLifecycleService.predecessorsOf("REJECTED")).containsExactly("RESERVED");
+	}
+
+	@Test
+	void liveDonationsCanExpire() {
+		assertThat(DonationLifecycleService.predecessorsOf("EXPIRED")).isEqualTo(List.of("AVAILABLE", "RESERVED"));
+	}
+
+	@Test
+	void nothingReturnsToAvailable() {
+		assertThat(DonationLifecycleService.predecessorsOf("AVAILABLE")).isEmpty();
+	}
+
+	@Test
+	void concurrentReservationsHaveOneWinner() throws Exception {
+		String donationId = insertDonation("AVAILABLE");
+		ExecutorService requesters = Executors.newFixedThreadPool(REQUESTERS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<FoodDonation>> attempts = new ArrayList<>();
+		for (int i = 0; i < REQUESTERS; i++) {
+			String organizationId = "org-" + i;
+			attempts.add(requesters.submit(() -> {
+				start.await();
+				return donationService.requestDonation(donationId, organizationId);
+			}));
+		}
+		start.countDown();
+
+		List<FoodDonation> winners = new ArrayList<>();
+		int conflicts = 0;
+		for (Future<FoodDonation> attempt : attempts) {
+			try {
+				winners.add(attempt.get());
+			} catch (ExecutionException e) {
+				assertThat(e.getCause()).isInstanceOf(InvalidStatusTransitionException.class);
+				conflicts++;
+			}
+		}
+		requesters.shutdown();
+
+		assertThat(winners).hasSize(1);
+		assertThat(conflicts).isEqualTo(REQUESTERS - 1);
+		FoodDonation stored = mongoTemplate.findById(donationId, FoodDonation.class);
+		assertThat(stored.getStatus()).isEqualTo("RESERVED");
+		assertThat(stored.getRequestedBy()).isEqualTo(winners.get(0).getRequestedBy());
+	}
+
+	@Test
+	void illegalTransitionIsRejectedAndLeavesTheDonation() {
+		String donationId = insertDonation("DONATED");
+
+		assertThatThrownBy(() -> lifecycleService.transition(donationId, "RESERVED"))
+			.isInstanceOf(InvalidStatusTransitionException.class)
+			.hasMessage("Donation is DONATED and cannot move to RESERVED");
+		assertThat(mongoTemplate.findById(donationId, FoodDonation.class).getStatus()).isEqualTo("DONATED");
+	}
+
+	private String insertDonation(String status) {
+		FoodDonation donation = new FoodDonation();
+		donation.setOrganizationId("donor");
+		donation.setFoodType("Prepared");
+		donation.setStatus(status);
+		return mongoTemplate.insert(donation).getId();
+	}
+
+}
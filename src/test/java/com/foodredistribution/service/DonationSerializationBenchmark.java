@@ -0,0 +1,68 @@
+package com.foodredistribution.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foodredistribution.model.FoodDonation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of donation list responses, configured like the application's
+ * message converter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DonationSerializationBenchmark {
+
+	@Param({"10", "100", "1000"})
+	public int size;
+
+	private ObjectMapper objectMapper;
+	private List<FoodDonation> donations;
+
+	@Setup
+	public void setUp() {
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+		donations = sampleDonations(size);
+	}
+
+	static List<FoodDonation> sampleDonations(int count) {
+		Date now = new Date();
+		List<FoodDonation> donations = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			FoodDonation donation = new FoodDonation();
+			donation.setId(String.format("%024x", i));
+			donation.setOrganizationId("org-" + (i % 20));
+			donation.setDonorName("Donor " + i);
+			donation.setFoodType("Prepared");
+			donation.setFoodName("Meal " + i);
+			donation.setQuantity("10");
+			donation.setQuantityUnit("servings");
+			donation.setExpiryDate(new Date(now.getTime() + TimeUnit.DAYS.toMillis(3)));
+			donation.setPickupAddress(i + " Market Street");
+			donation.setContactPhone("555-0100");
+			donation.setNotes("Keep refrigerated");
+			donation.setStatus("AVAILABLE");
+			donation.setCreatedDate(now);
+			donations.add(donation);
+		}
+		return donations;
+	}
+
+	@Benchmark
+	public byte[] serialize() throws Exception {
+		return objectMapper.writeValueAsBytes(donations);
+	}
+}
@@ -0,0 +1,94 @@
+package com.foodredistribution.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.foodredistribution.dto.DonationFieldSet;
+import com.foodredistribution.model.FoodDonation;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process work of {@link DonationService}: donation validation, and turning projected
+ * documents into response rows on the browse path
+ * ({@code getAvailableDonationsFromOthers}), whose filtering itself now runs in MongoDB:
+ * each row is mapped to a {@link FoodDonation} and rendered for the summary view.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DonationServiceBenchmark {
+
+	private final DonationService donationService = new DonationService();
+	private FoodDonation donation;
+
+	@Setup
+	public void setUp() {
+		donation = DonationSerializationBenchmark.sampleDonations(1).get(0);
+	}
+
+	@State(Scope.Benchmark)
+	public static class BrowsePage {
+
+		@Param({"100", "500"})
+		public int rows;
+
+		List<Document> projectedRows;
+		MappingMongoConverter converter;
+		ObjectMapper objectMapper;
+
+		@Setup
+		public void setUp() {
+			MongoMappingContext mappingContext = new MongoMappingContext();
+			mappingContext.afterPropertiesSet();
+			converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+			converter.afterPropertiesSet();
+			objectMapper = Jackson2ObjectMapperBuilder.json().build();
+			projectedRows = new ArrayList<>(rows);
+			Date expiry = new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(3));
+			for (int i = 0; i < rows; i++) {
+				projectedRows.add(new Document("_id", new ObjectId())
+					.append("organizationId", "org-" + (i % 20))
+					.append("donorName", "Donor " + i)
+					.append("foodType", "Prepared")
+					.append("foodName", "Meal " + i)
+					.append("quantity", "10")
+					.append("quantityUnit", "servings")
+					.append("expiryDate", expiry)
+					.append("pickupAddress", i + " Market Street")
+					.append("requiresRefrigeration", false)
+					.append("status", "AVAILABLE"));
+			}
+		}
+	}
+
+	@Benchmark
+	public FoodDonation validateDonation() {
+		donationService.validateDonation(donation);
+		return donation;
+	}
+
+	@Benchmark
+	public void browseRowMapping(BrowsePage page, Blackhole blackhole) {
+		for (Document row : page.projectedRows) {
+			FoodDonation donation = page.converter.read(FoodDonation.class, row);
+			blackhole.consume(DonationFieldSet.SUMMARY.render(donation, page.objectMapper));
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package com.foodredistribution.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class MatchScorerTests {
+
+	private final MatchScorer scorer = new MatchScorer(48, 25);
+
+	@Test
+	void prefersCloserAndMoreReliableReceivers() {
+		double near = scorer.score(12, 2, false, null, 0.5);
+		double far = scorer.score(12, 20, false, null, 0.5);
+		double reliable = scorer.score(12, 20, false, null, 0.9);
+
+		assertThat(near).isGreaterThan(far);
+		assertThat(reliable).isGreaterThan(far);
+	}
+
+	@Test
+	void urgencyRaisesEveryCandidate() {
+		assertThat(scorer.score(1, 10, false, null, 0.5)).isGreaterThan(scorer.score(40, 10, false, null, 0.5));
+		assertThat(scorer.score(0, 0, false, true, 1)).isCloseTo(1, within(1e-9));
+	}
+
+	@Test
+	void chilledFoodNeedsRefrigeration() {
+		assertThat(scorer.score(12, 5, true, false, 0.5)).isEqualTo(MatchScorer.EXCLUDED);
+		assertThat(scorer.score(12, 5, true, true, 0.5)).isGreaterThan(scorer.score(12, 5, true, null, 0.5));
+		assertThat(scorer.score(12, 5, false, false, 0.5)).isEqualTo(scorer.score(12, 5, false, true, 0.5));
+	}
+
+	@Test
+	void acceptanceRateIsSmoothedTowardsEven() {
+		assertThat(MatchScorer.acceptanceRate(0, 0)).isEqualTo(0.5);
+		assertThat(MatchScorer.acceptanceRate(8, 0)).isEqualTo(0.9);
+		assertThat(MatchScorer.acceptanceRate(0, 3)).isEqualTo(0.2);
+	}
+}
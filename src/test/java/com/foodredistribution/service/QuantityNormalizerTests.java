@@ -0,0 +1,36 @@
+package com.foodredistribution.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class QuantityNormalizerTests {
+
+	@Test
+	void convertsToBaseUnits() {
+		assertThat(QuantityNormalizer.normalize("500", "g")).isEqualTo(new QuantityNormalizer.Normalized(0.5, "kg"));
+		assertThat(QuantityNormalizer.normalize("2", "ltr")).isEqualTo(new QuantityNormalizer.Normalized(2, "l"));
+		assertThat(QuantityNormalizer.normalize("12", "Servings")).isEqualTo(new QuantityNormalizer.Normalized(12, "meals"));
+		assertThat(QuantityNormalizer.normalize("10", "lbs").amount()).isCloseTo(4.5359237, within(1e-9));
+	}
+
+	@Test
+	void acceptsDecimalCommaAndInlineUnit() {
+		assertThat(QuantityNormalizer.normalize("2,5", "kg")).isEqualTo(new QuantityNormalizer.Normalized(2.5, "kg"));
+		assertThat(QuantityNormalizer.normalize("250 ml", "items")).isEqualTo(new QuantityNormalizer.Normalized(0.25, "l"));
+	}
+
+	@Test
+	void keepsUnknownUnitsUnconverted() {
+		assertThat(QuantityNormalizer.normalize("3", " Crates ")).isEqualTo(new QuantityNormalizer.Normalized(3, "crates"));
+	}
+
+	@Test
+	void rejectsNonNumericQuantities() {
+		assertThat(QuantityNormalizer.normalize("a few", "kg")).isNull();
+		assertThat(QuantityNormalizer.normalize("-1", "kg")).isNull();
+		assertThat(QuantityNormalizer.normalize("5", null)).isNull();
+	}
+
+}